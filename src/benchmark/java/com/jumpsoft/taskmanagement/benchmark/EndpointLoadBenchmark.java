@@ -0,0 +1,292 @@
+package com.jumpsoft.taskmanagement.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.jumpsoft.taskmanagement.TaskManagementApplication;
+import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.FeatureTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.TaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+/**
+ * Load test of every endpoint of the task and user API over HTTP at a fixed number of concurrent clients.
+ * The application runs with the in-memory H2 of the test profile, seeded with {@code tasks} tasks spread over
+ * {@code users} users, so the whole test runs offline. Each endpoint is measured in throughput and sample time mode,
+ * the latter reports the p50, p95 and p99 latency. Results are written to a file with the JMH result options:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="EndpointLoadBenchmark -rf json -rff target/endpoint-load.json"
+ * </pre>
+ * Comparing the results of both dataset sizes shows the endpoints whose latency grows with the number of tasks.
+ * Concurrency is changed with {@code -t}, the dataset with {@code -p tasks=...} and {@code -p users=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(16)
+@Fork(1)
+public class EndpointLoadBenchmark {
+
+    private static final String SEARCH_FILTER = "{\"status\": \"OPEN\"}";
+    private static final String TEXT_FILTER = "{\"text\": \"login\"}";
+
+    @Param({"1000", "100000"})
+    private int tasks;
+
+    @Param("100")
+    private int users;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private UserService userService;
+    private HttpClient client;
+    private URI baseUri;
+    private List<Long> taskIds;
+    private List<Long> userIds;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(TaskManagementApplication.class)
+                .profiles("test")
+                .run("--logging.level.root=WARN", "--logging.level.com.jumpsoft=WARN", "--server.port=0",
+                        "--spring.jpa.show-sql=false");
+        baseUri = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        taskService = context.getBean(TaskService.class);
+        userService = context.getBean(UserService.class);
+
+        userIds = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            userIds.add(userService.createUser(new UserCreateRequest("seeduser" + i, "Seed User " + i)).id());
+        }
+        taskIds = new ArrayList<>(tasks);
+        List<TaskCreateRequest> batch = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            batch.add(newTask(i, userIds.get(i % users)));
+            if (batch.size() == TaskService.MAX_BATCH_SIZE || i == tasks - 1) {
+                taskService.createTasks(batch).created().forEach(task -> taskIds.add(task.getId()));
+                batch.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Ids of the seeded tasks and users a client thread updates. Every thread picks from its own share,
+     * so concurrent updates of one row do not fail on its version.
+     */
+    @State(Scope.Thread)
+    public static class Client {
+
+        private final Random random = new Random();
+        private int index;
+        private int count;
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams threadParams) {
+            index = threadParams.getThreadIndex();
+            count = threadParams.getThreadCount();
+        }
+
+        Long taskId(EndpointLoadBenchmark benchmark) {
+            return pick(benchmark.taskIds);
+        }
+
+        Long userId(EndpointLoadBenchmark benchmark) {
+            return pick(benchmark.userIds);
+        }
+
+        private Long pick(List<Long> ids) {
+            return ids.get(index + count * random.nextInt(Math.max(1, ids.size() / count)));
+        }
+    }
+
+    /**
+     * Task and user created before each delete request, so that deleting does not shrink the seeded dataset.
+     */
+    @State(Scope.Thread)
+    public static class DeleteTarget {
+
+        private Long taskId;
+        private Long userId;
+
+        @Setup(Level.Invocation)
+        public void setUp(EndpointLoadBenchmark benchmark) throws Exception {
+            long n = benchmark.sequence.incrementAndGet();
+            userId = benchmark.userService.createUser(new UserCreateRequest("deluser" + n, "Deleted User " + n)).id();
+            taskId = benchmark.taskService.createTask(newTask((int) n, userId)).getId();
+        }
+    }
+
+    @Benchmark
+    public int getAllTasks() {
+        return send(get("/api/tasks?size=50"));
+    }
+
+    @Benchmark
+    public int getTaskStatistics() {
+        return send(get("/api/tasks/stats"));
+    }
+
+    @Benchmark
+    public int exportAllTasks() {
+        return send(HttpRequest.newBuilder(baseUri.resolve("/api/tasks")).header("Accept", "application/x-ndjson").build());
+    }
+
+    @Benchmark
+    public int getTaskById(Client client) {
+        return send(get("/api/tasks/" + client.taskId(this)));
+    }
+
+    @Benchmark
+    public int createTask(Client client) {
+        return send(post("/api/tasks", """
+                {"category": "BUG", "name": "Load bug", "status": "OPEN", "severity": "LOW", "userId": %d}
+                """.formatted(client.userId(this))));
+    }
+
+    @Benchmark
+    public int createTasks(Client client) {
+        return send(post("/api/tasks/batch", """
+                [{"category": "BUG", "name": "Load bug", "status": "OPEN", "severity": "LOW", "userId": %1$d},
+                 {"category": "FEATURE", "name": "Load feature", "status": "OPEN", "businessValue": "Value",
+                  "deadline": "%2$s", "userId": %1$d}]
+                """.formatted(client.userId(this), LocalDate.now().plusYears(1))));
+    }
+
+    @Benchmark
+    public int searchTasks() {
+        return send(post("/api/tasks/search?size=50", SEARCH_FILTER));
+    }
+
+    @Benchmark
+    public int searchTasksByText() {
+        return send(post("/api/tasks/search?size=50", TEXT_FILTER));
+    }
+
+    @Benchmark
+    public int exportTasksByFilter(Client client) {
+        return send(HttpRequest.newBuilder(baseUri.resolve("/api/tasks/search"))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"userId\": " + client.userId(this) + "}"))
+                .build());
+    }
+
+    @Benchmark
+    public int updateTask(Client client) {
+        return send(patch("/api/tasks/" + client.taskId(this), "{\"description\": \"Updated by load test\"}"));
+    }
+
+    @Benchmark
+    public int deleteTask(DeleteTarget target) {
+        return send(HttpRequest.newBuilder(baseUri.resolve("/api/tasks/" + target.taskId)).DELETE().build());
+    }
+
+    @Benchmark
+    public int getAllUsers() {
+        return send(get("/api/users?size=50"));
+    }
+
+    @Benchmark
+    public int getUserById(Client client) {
+        return send(get("/api/users/" + client.userId(this)));
+    }
+
+    @Benchmark
+    public int createUser() {
+        long n = sequence.incrementAndGet();
+        return send(post("/api/users", "{\"username\": \"loaduser" + n + "\", \"fullName\": \"Load User\"}"));
+    }
+
+    @Benchmark
+    public int updateUser(Client client) {
+        return send(patch("/api/users/" + client.userId(this), "{\"fullName\": \"Updated User\"}"));
+    }
+
+    @Benchmark
+    public int deleteUser(DeleteTarget target) {
+        return send(HttpRequest.newBuilder(baseUri.resolve("/api/users/" + target.userId)).DELETE().build());
+    }
+
+    private static TaskCreateRequest newTask(int i, Long userId) {
+        return i % 2 == 0
+                ? new BugTaskCreateRequest("Bug " + i, i % 10 == 0 ? "Login fails" : "Seeded bug", TaskStatus.OPEN,
+                        "Open the page", BugSeverity.MEDIUM, userId)
+                : new FeatureTaskCreateRequest("Feature " + i, "Seeded feature", TaskStatus.IN_PROGRESS,
+                        "Happy users", LocalDate.now().plusYears(1), userId);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest patch(String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException(request.method() + " " + request.uri()
+                        + " failed with status " + response.statusCode());
+            }
+            return response.statusCode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.jumpsoft.taskmanagement.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures task inserts per second with the statements Hibernate issues for a flush of {@link #ROWS} new tasks,
+ * once with one nextval call per row (allocationSize 1) and once with one nextval call per block (pooled-lo).
+ *
+ * Runs against in-memory H2 by default. PostgreSQL is measured by overriding the connection parameters:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="SequenceInsertBenchmark
+ *     -p url=jdbc:postgresql://localhost:5432/taskmanagement -p user=taskmanagement -p password=password"
+ * </pre>
+ * The benchmark works on its own table and sequence, which are dropped afterwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SequenceInsertBenchmark {
+
+    private static final int ROWS = 50;
+
+    @Param("jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+    private String url;
+
+    @Param("sa")
+    private String user;
+
+    @Param("")
+    private String password;
+
+    @Param({"1", "50"})
+    private int allocationSize;
+
+    private Connection connection;
+    private PreparedStatement nextval;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS benchmark_tasks");
+            statement.execute("DROP SEQUENCE IF EXISTS benchmark_task_id_seq");
+            statement.execute("CREATE SEQUENCE benchmark_task_id_seq START WITH 1 INCREMENT BY " + allocationSize);
+            statement.execute("CREATE TABLE benchmark_tasks (id BIGINT NOT NULL PRIMARY KEY, name VARCHAR(100) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL, category VARCHAR(10) NOT NULL, status VARCHAR(20) NOT NULL, "
+                    + "severity VARCHAR(20))");
+        }
+        connection.setAutoCommit(false);
+        nextval = connection.prepareStatement("SELECT nextval('benchmark_task_id_seq')");
+        insert = connection.prepareStatement(
+                "INSERT INTO benchmark_tasks (id, name, created_at, category, status, severity) VALUES (?, ?, ?, 'BUG', 'OPEN', 'LOW')");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE benchmark_tasks");
+            statement.execute("DROP SEQUENCE benchmark_task_id_seq");
+        }
+        connection.close();
+    }
+
+    /**
+     * One transaction creating {@link #ROWS} tasks: ID allocation per persist, then a batched insert on flush.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertTasks() throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        long next = 0;
+        long blockEnd = 0;
+        for (int row = 0; row < ROWS; row++) {
+            if (next == blockEnd) {
+                next = nextSequenceValue();
+                blockEnd = next + allocationSize;
+            }
+            insert.setLong(1, next++);
+            insert.setString(2, "Benchmark task " + row);
+            insert.setTimestamp(3, createdAt);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private long nextSequenceValue() throws SQLException {
+        try (ResultSet resultSet = nextval.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.jumpsoft.taskmanagement.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import com.jumpsoft.taskmanagement.TaskManagementApplication;
+import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.FeatureTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.task.TaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.entity.Bug;
+import com.jumpsoft.taskmanagement.entity.Feature;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskCategory;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.mapper.TaskMapper;
+import com.jumpsoft.taskmanagement.mapper.UserMapper;
+import com.jumpsoft.taskmanagement.service.TaskService;
+
+/**
+ * Throughput of the mapping and serialization of whole task lists, the work of the list endpoints and exports
+ * after the database has answered. Covers {@link TaskService#mapToDTO}, the MapStruct mappers and the Jackson
+ * object mapper of the application with the {@code category} type property of {@link Task} and
+ * {@link TaskCreateRequest}. Entities and DTOs are built in memory, no database is read.
+ * Run with the GC profiler to see the allocation rate and the bytes allocated per list:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="TaskMappingBenchmark -prof gc"
+ * </pre>
+ * A single size is selected with {@code -p tasks=100000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class TaskMappingBenchmark {
+
+    private static final int USERS = 100;
+    private static final TypeReference<List<Task>> TASK_LIST = new TypeReference<>() { };
+    private static final TypeReference<List<TaskCreateRequest>> CREATE_REQUEST_LIST = new TypeReference<>() { };
+
+    @Param({"1000", "100000", "1000000"})
+    private int tasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskMapper taskMapper;
+    private UserMapper userMapper;
+    private ObjectWriter taskWriter;
+    private ObjectReader taskReader;
+    private ObjectReader createRequestReader;
+
+    private List<com.jumpsoft.taskmanagement.entity.Task> entities;
+    private List<com.jumpsoft.taskmanagement.entity.User> users;
+    private List<TaskCreateRequest> createRequests;
+    private List<Task> dtos;
+    private byte[] taskJson;
+    private byte[] createRequestJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(TaskManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--logging.level.root=WARN");
+        taskService = context.getBean(TaskService.class);
+        taskMapper = context.getBean(TaskMapper.class);
+        userMapper = context.getBean(UserMapper.class);
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        taskWriter = objectMapper.writerFor(TASK_LIST);
+        taskReader = objectMapper.readerFor(TASK_LIST);
+        ObjectWriter createRequestWriter = objectMapper.writerFor(CREATE_REQUEST_LIST);
+        createRequestReader = objectMapper.readerFor(CREATE_REQUEST_LIST);
+
+        users = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            com.jumpsoft.taskmanagement.entity.User user = new com.jumpsoft.taskmanagement.entity.User();
+            user.setId((long) i + 1);
+            user.setVersion(0L);
+            user.setUsername("benchuser" + i);
+            user.setFullName("Benchmark User " + i);
+            users.add(user);
+        }
+        entities = new ArrayList<>(tasks);
+        createRequests = new ArrayList<>(tasks);
+        LocalDateTime createdAt = LocalDateTime.now();
+        for (int i = 0; i < tasks; i++) {
+            com.jumpsoft.taskmanagement.entity.User user = users.get(i % USERS);
+            if (i % 2 == 0) {
+                Bug bug = new Bug();
+                bug.setCategory(TaskCategory.BUG);
+                bug.setName("Bug " + i);
+                bug.setDescription("Benchmark bug");
+                bug.setStatus(TaskStatus.OPEN);
+                bug.setStepsToReproduce("Open the page");
+                bug.setSeverity(BugSeverity.MEDIUM);
+                entities.add(bug);
+                createRequests.add(new BugTaskCreateRequest(bug.getName(), bug.getDescription(), bug.getStatus(),
+                        bug.getStepsToReproduce(), bug.getSeverity(), user.getId()));
+            } else {
+                Feature feature = new Feature();
+                feature.setCategory(TaskCategory.FEATURE);
+                feature.setName("Feature " + i);
+                feature.setDescription("Benchmark feature");
+                feature.setStatus(TaskStatus.IN_PROGRESS);
+                feature.setBusinessValue("Happy users");
+                feature.setDeadline(LocalDate.now().plusDays(30));
+                entities.add(feature);
+                createRequests.add(new FeatureTaskCreateRequest(feature.getName(), feature.getDescription(),
+                        feature.getStatus(), feature.getBusinessValue(), feature.getDeadline(), user.getId()));
+            }
+            com.jumpsoft.taskmanagement.entity.Task task = entities.get(i);
+            task.setId((long) i + 1);
+            task.setVersion(0L);
+            task.setCreatedAt(createdAt);
+            task.setUser(user);
+        }
+        dtos = mapToDTO();
+        taskJson = taskWriter.writeValueAsBytes(dtos);
+        createRequestJson = createRequestWriter.writeValueAsBytes(createRequests);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Task entities mapped to DTOs the way every endpoint returning tasks does it.
+     */
+    @Benchmark
+    public List<Task> mapToDTO() {
+        List<Task> result = new ArrayList<>(entities.size());
+        for (com.jumpsoft.taskmanagement.entity.Task task : entities) {
+            result.add(taskService.mapToDTO(task));
+        }
+        return result;
+    }
+
+    /**
+     * Create requests mapped to new entities, as the batch create endpoint does.
+     */
+    @Benchmark
+    public List<com.jumpsoft.taskmanagement.entity.Task> mapToEntity() {
+        List<com.jumpsoft.taskmanagement.entity.Task> result = new ArrayList<>(createRequests.size());
+        for (TaskCreateRequest request : createRequests) {
+            result.add(request instanceof BugTaskCreateRequest bug
+                    ? taskMapper.toBugEntity(bug)
+                    : taskMapper.toFeatureEntity((FeatureTaskCreateRequest) request));
+        }
+        return result;
+    }
+
+    /**
+     * User entities mapped to DTOs, as for the user list and the user of every task.
+     */
+    @Benchmark
+    public List<User> mapUsers() {
+        List<User> result = new ArrayList<>(users.size());
+        for (com.jumpsoft.taskmanagement.entity.User user : users) {
+            result.add(userMapper.toDTO(user));
+        }
+        return result;
+    }
+
+    /**
+     * Task DTOs written as a JSON array with the category type property.
+     */
+    @Benchmark
+    public byte[] serializeTasks() throws Exception {
+        return taskWriter.writeValueAsBytes(dtos);
+    }
+
+    /**
+     * JSON array of tasks read back into bug and feature DTOs, resolved by their category.
+     */
+    @Benchmark
+    public List<Task> deserializeTasks() throws Exception {
+        return taskReader.readValue(taskJson);
+    }
+
+    /**
+     * JSON array of create requests read into bug and feature requests, as the batch create endpoint receives them.
+     */
+    @Benchmark
+    public List<TaskCreateRequest> deserializeCreateRequests() throws Exception {
+        return createRequestReader.readValue(createRequestJson);
+    }
+}
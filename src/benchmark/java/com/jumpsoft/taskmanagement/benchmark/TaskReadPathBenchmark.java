@@ -0,0 +1,141 @@
+package com.jumpsoft.taskmanagement.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jumpsoft.taskmanagement.TaskManagementApplication;
+import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.FeatureTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.task.TaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.entity.Bug;
+import com.jumpsoft.taskmanagement.entity.Feature;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.mapper.TaskMapper;
+import com.jumpsoft.taskmanagement.repository.TaskProjectionRepository;
+import com.jumpsoft.taskmanagement.repository.TaskRepository;
+import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+import jakarta.persistence.criteria.JoinType;
+
+/**
+ * Compares reading one page of tasks through managed entities mapped by MapStruct with the tuple projection
+ * which builds the DTOs directly. Allocation per page is reported by the GC profiler:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="TaskReadPathBenchmark -prof gc"
+ * </pre>
+ * The application context is started with the test profile, so the tasks are read from in-memory H2.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskReadPathBenchmark {
+
+    private static final int USERS = 20;
+    private static final int TASKS = 2000;
+
+    @Param({"50", "500"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TaskMapper taskMapper;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(TaskManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--logging.level.root=WARN");
+        taskRepository = context.getBean(TaskRepository.class);
+        taskMapper = context.getBean(TaskMapper.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        UserService userService = context.getBean(UserService.class);
+        TaskService taskService = context.getBean(TaskService.class);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(userService.createUser(new UserCreateRequest("benchuser" + i, "Benchmark User " + i)));
+        }
+        List<TaskCreateRequest> batch = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            Long userId = users.get(i % USERS).id();
+            batch.add(i % 2 == 0
+                    ? new BugTaskCreateRequest("Bug " + i, "Benchmark bug", TaskStatus.OPEN,
+                            "Open the page", BugSeverity.MEDIUM, userId)
+                    : new FeatureTaskCreateRequest("Feature " + i, "Benchmark feature", TaskStatus.IN_PROGRESS,
+                            "Happy users", LocalDate.now().plusDays(30), userId));
+            if (batch.size() == TaskService.MAX_BATCH_SIZE) {
+                taskService.createTasks(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            taskService.createTasks(batch);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Page read the way the list endpoint did it before: entities with the user fetch-joined, mapped to DTOs.
+     */
+    @Benchmark
+    public List<Task> entities() {
+        Specification<com.jumpsoft.taskmanagement.entity.Task> fetchUser = (root, query, cb) -> {
+            root.fetch("user", JoinType.LEFT);
+            return cb.conjunction();
+        };
+        return readOnlyTransaction.execute(status -> taskRepository.findBy(fetchUser,
+                        q -> q.sortBy(Sort.by("id")).limit(pageSize).all())
+                .stream()
+                .map(task -> switch (task.getCategory()) {
+                    case BUG -> (Task) taskMapper.toBugDTO((Bug) task);
+                    case FEATURE -> taskMapper.toFeatureDTO((Feature) task);
+                })
+                .toList());
+    }
+
+    /**
+     * Page read through the tuple projection used by the list endpoint.
+     */
+    @Benchmark
+    public List<TaskProjectionRepository.TaskRow> projection() {
+        return readOnlyTransaction.execute(status -> taskRepository.findRows(null, Sort.by("id"), pageSize));
+    }
+}
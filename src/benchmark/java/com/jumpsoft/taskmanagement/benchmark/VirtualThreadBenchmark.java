@@ -0,0 +1,166 @@
+package com.jumpsoft.taskmanagement.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.jumpsoft.taskmanagement.TaskManagementApplication;
+import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+/**
+ * Compares request throughput of the application with platform and virtual request threads
+ * ({@code spring.threads.virtual.enabled}) when more requests are in flight than Tomcat has platform threads.
+ * Each invocation sends {@link #CONCURRENCY} concurrent requests over HTTP and waits for all of them.
+ *
+ * Runs against in-memory H2 of the test profile by default, which never waits for I/O and therefore only shows
+ * the overhead of the thread model. The waiting the virtual threads are meant for is measured against PostgreSQL:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="VirtualThreadBenchmark
+ *     -p url=jdbc:postgresql://localhost:5432/taskmanagement -p user=taskmanagement -p password=password"
+ * </pre>
+ * Add {@code -jvmArgsAppend -Djdk.tracePinnedThreads=short} to report virtual threads pinned to their carrier.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualThreadBenchmark {
+
+    /**
+     * Twice the default maximum of Tomcat platform threads.
+     */
+    private static final int CONCURRENCY = 400;
+    private static final int TASKS = 1000;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param("")
+    private String url;
+
+    @Param("sa")
+    private String user;
+
+    @Param("")
+    private String password;
+
+    @Param("20")
+    private int poolSize;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private URI baseUri;
+    private String createBody;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        List<String> args = new ArrayList<>(List.of(
+                "--logging.level.root=WARN",
+                "--logging.level.com.jumpsoft=WARN",
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--spring.jpa.show-sql=false"));
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(TaskManagementApplication.class);
+        if (url.isBlank()) {
+            builder.profiles("test");
+        } else {
+            args.addAll(List.of("--spring.datasource.url=" + url, "--spring.datasource.username=" + user,
+                    "--spring.datasource.password=" + password));
+        }
+        context = builder.run(args.toArray(String[]::new));
+        baseUri = URI.create("http://localhost:"
+                + ((WebServerApplicationContext) context).getWebServer().getPort() + "/api/tasks");
+
+        User assignee = context.getBean(UserService.class)
+                .createUser(new UserCreateRequest("threaduser" + System.nanoTime(), "Thread User"));
+        TaskService taskService = context.getBean(TaskService.class);
+        for (int i = 0; i < TASKS; i++) {
+            taskService.createTask(new BugTaskCreateRequest("Bug " + i, "Benchmark bug", TaskStatus.OPEN,
+                    "Open the page", BugSeverity.MEDIUM, assignee.id()));
+        }
+        createBody = """
+                {"category": "BUG", "name": "Benchmark bug", "status": "OPEN", "severity": "LOW", "userId": %d}
+                """.formatted(assignee.id());
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder().executor(clientExecutor).version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clientExecutor.close();
+        context.close();
+    }
+
+    /**
+     * Concurrent searches of the first page of open tasks.
+     */
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENCY)
+    public void searchTasks() {
+        sendConcurrently(HttpRequest.newBuilder(baseUri.resolve("/api/tasks/search?size=50"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"status\": \"OPEN\"}"))
+                .build());
+    }
+
+    /**
+     * Concurrent creations of bugs, each in its own transaction.
+     */
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENCY)
+    public void createTask() {
+        sendConcurrently(HttpRequest.newBuilder(baseUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(createBody))
+                .build());
+    }
+
+    private void sendConcurrently(HttpRequest request) {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[CONCURRENCY];
+        for (int i = 0; i < CONCURRENCY; i++) {
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() / 100 != 2) {
+                            throw new IllegalStateException("Request failed with status " + response.statusCode());
+                        }
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+    }
+}
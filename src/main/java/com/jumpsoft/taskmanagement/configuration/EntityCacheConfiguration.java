@@ -0,0 +1,67 @@
+package com.jumpsoft.taskmanagement.configuration;
+
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+/**
+ * Configuration of the Hibernate second-level cache.
+ * The regions are Caffeine caches created through the JCache API with the sizes and expiration
+ * from {@link EntityCacheProperties}. Their hit, miss, put and eviction counts are published
+ * as the {@code cache.*} metrics of the actuator.
+ */
+@Configuration
+@EnableConfigurationProperties(EntityCacheProperties.class)
+public class EntityCacheConfiguration {
+
+    public static final String TASKS_REGION = "tasks";
+    public static final String USERS_REGION = "users";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        createRegion(cacheManager, TASKS_REGION, properties.tasks());
+        createRegion(cacheManager, USERS_REGION, properties.users());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernateCustomizer(CacheManager entityCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    @Bean
+    public MeterBinder entityCacheMetrics(CacheManager entityCacheManager) {
+        return registry -> {
+            for (String region : new String[] { TASKS_REGION, USERS_REGION }) {
+                JCacheMetrics.monitor(registry, entityCacheManager.getCache(region), Tags.of("cache.type", "hibernate"));
+            }
+        };
+    }
+
+    private void createRegion(CacheManager cacheManager, String name, EntityCacheProperties.Region region) {
+        if (cacheManager.getCache(name) != null) {
+            // Another application context in the same JVM (tests) already created the region
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.timeToLive().toNanos()));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,22 @@
+package com.jumpsoft.taskmanagement.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Sizes and expiration of the second-level cache regions, bound from {@code task-management.entity-cache}.
+ *
+ * @param tasks Region of the tasks, bugs and features included.
+ * @param users Region of the users.
+ */
+@ConfigurationProperties(prefix = "task-management.entity-cache")
+public record EntityCacheProperties(Region tasks, Region users) {
+
+    /**
+     * @param maximumSize Maximum number of cached entities, the least used are evicted above it.
+     * @param timeToLive  Time after which a cached entity expires, counted from its last write.
+     */
+    public record Region(long maximumSize, Duration timeToLive) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.jumpsoft.taskmanagement.configuration;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Configuration of the application metrics published by the actuator.
+ * Methods of the services annotated with {@code @Timed(SERVICE_TIMER)} are timed by the Micrometer aspect,
+ * tagged by class, method, exception and outcome. Repository methods are timed by Spring Data
+ * as {@code spring.data.repository.invocations}, Hibernate statistics are the {@code hibernate.*} metrics.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    public static final String SERVICE_TIMER = "taskmanagement.service";
+
+    /**
+     * Adds the outcome tag to the service timers, SUCCESS or ERROR when the method threw an exception.
+     */
+    @Bean
+    public MeterFilter serviceOutcomeMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                if (!id.getName().startsWith(SERVICE_TIMER)) {
+                    return id;
+                }
+                String exception = id.getTag("exception");
+                return id.withTag(Tag.of("outcome", exception == null || "none".equals(exception) ? "SUCCESS" : "ERROR"));
+            }
+        };
+    }
+
+    /**
+     * Number of distinct statements which took longer than {@code hibernate.log_slow_query}, the statements
+     * themselves are logged by {@code org.hibernate.SQL_SLOW}.
+     */
+    @Bean
+    public MeterBinder slowQueryMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> Gauge.builder("hibernate.query.slow", statistics, s -> s.getSlowQueries().size())
+                .description("Distinct statements slower than hibernate.log_slow_query")
+                .register(registry);
+    }
+}
@@ -0,0 +1,84 @@
+package com.jumpsoft.taskmanagement.configuration;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import com.jumpsoft.taskmanagement.controller.ReadYourWritesFilter;
+import com.jumpsoft.taskmanagement.util.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Configuration of the read replica, active when {@link ReplicaDataSourceProperties#url()} is set.
+ * The primary and the replica get a pool each, which replaces the pool of the auto-configuration.
+ * JPA, Flyway and the rest of the application use the routing data source, which sends read-only transactions
+ * to the replica, see {@link ReplicaRoutingDataSource}. Both pools are beans of their own, so the health
+ * indicators and the pool metrics cover them separately. The read-your-writes window of every client is started
+ * by the {@link ReadYourWritesFilter}.
+ */
+@Configuration
+@ConditionalOnExpression("!'${task-management.replica.url:}'.isEmpty()")
+public class ReplicaDataSourceConfiguration {
+
+    private static final String PRIMARY_POOL = "primary";
+    private static final String REPLICA_POOL = "replica";
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(PRIMARY_POOL);
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "task-management.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, ReplicaDataSourceProperties replica) {
+        boolean ownUser = StringUtils.hasText(replica.username());
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replica.url())
+                .username(ownUser ? replica.username() : properties.determineUsername())
+                .password(ownUser ? replica.password() : properties.determinePassword())
+                .build();
+        dataSource.setPoolName(REPLICA_POOL);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+                entityManagerFactory);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaDataSourceProperties replica) {
+        Duration window = replica.readYourWritesWindow() == null ? Duration.ZERO : replica.readYourWritesWindow();
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(window));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,21 @@
+package com.jumpsoft.taskmanagement.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the read replica, bound from {@code task-management.replica}. The pool of the replica is configured
+ * under {@code task-management.replica.hikari} like the pool of the primary under {@code spring.datasource.hikari}.
+ *
+ * @param url                  JDBC URL of the replica, without it every transaction uses the primary.
+ * @param username             User of the replica, the user and password of the primary are used when it is empty.
+ * @param password             Password of the replica.
+ * @param readYourWritesWindow Time after a write of a client during which the read-only transactions of the same
+ *                             client stay on the primary, zero sends them to the replica right away. The time of the
+ *                             write is kept by the client in a cookie, see
+ *                             {@link com.jumpsoft.taskmanagement.util.ReadYourWrites}.
+ */
+@ConfigurationProperties(prefix = "task-management.replica")
+public record ReplicaDataSourceProperties(String url, String username, String password, Duration readYourWritesWindow) {
+}
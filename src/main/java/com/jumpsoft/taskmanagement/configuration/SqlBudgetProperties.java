@@ -0,0 +1,17 @@
+package com.jumpsoft.taskmanagement.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * SQL budget of one HTTP request, bound from {@code task-management.sql-budget}.
+ * Requests executing more statements or spending more time in JDBC are logged with their SQL.
+ *
+ * @param enabled    Whether the data source is proxied to count the statements of the requests.
+ * @param statements Maximum number of statements of a request, a JDBC batch counts as one.
+ * @param time       Maximum time of a request spent executing statements.
+ */
+@ConfigurationProperties(prefix = "task-management.sql-budget")
+public record SqlBudgetProperties(boolean enabled, int statements, Duration time) {
+}
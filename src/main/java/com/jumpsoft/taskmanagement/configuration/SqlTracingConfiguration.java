@@ -0,0 +1,57 @@
+package com.jumpsoft.taskmanagement.configuration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.jumpsoft.taskmanagement.controller.RequestSqlFilter;
+import com.jumpsoft.taskmanagement.util.RequestSqlStatistics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Configuration of the per-request SQL statistics.
+ * The data source is wrapped by datasource-proxy, which reports every statement and result set row
+ * to {@link RequestSqlStatistics}, and {@link RequestSqlFilter} checks each request against the {@link SqlBudgetProperties}.
+ * Data sources delegating to other data source beans, like the routing data source of the replica, are not proxied,
+ * their targets are, so every statement is counted once.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+@ConditionalOnProperty(prefix = "task-management.sql-budget", name = "enabled", matchIfMissing = true)
+public class SqlTracingConfiguration {
+
+    @Bean
+    public static BeanPostProcessor sqlTracingDataSourcePostProcessor() {
+        RequestSqlStatistics.Listener listener = new RequestSqlStatistics.Listener();
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof DelegatingDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(listener)
+                            .methodListener(listener)
+                            .proxyResultSet()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestSqlFilter> requestSqlFilter(SqlBudgetProperties budget) {
+        FilterRegistrationBean<RequestSqlFilter> registration = new FilterRegistrationBean<>(new RequestSqlFilter(budget));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
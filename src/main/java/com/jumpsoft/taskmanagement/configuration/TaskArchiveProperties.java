@@ -0,0 +1,16 @@
+package com.jumpsoft.taskmanagement.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the archival of done tasks, bound from {@code task-management.task-archive}.
+ *
+ * @param age       Age after which a done task is archived, measured from its creation.
+ * @param batchSize Maximum number of tasks archived by one transaction, which bounds the rows it locks.
+ * @param cron      Schedule of the archival job, {@code -} disables it.
+ */
+@ConfigurationProperties(prefix = "task-management.task-archive")
+public record TaskArchiveProperties(Duration age, int batchSize, String cron) {
+}
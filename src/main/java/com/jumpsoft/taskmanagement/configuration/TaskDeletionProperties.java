@@ -0,0 +1,12 @@
+package com.jumpsoft.taskmanagement.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the deletion of tasks by a filter, bound from {@code task-management.task-deletion}.
+ *
+ * @param batchSize Maximum number of tasks deleted by one transaction, which bounds the rows it locks.
+ */
+@ConfigurationProperties(prefix = "task-management.task-deletion")
+public record TaskDeletionProperties(int batchSize) {
+}
@@ -0,0 +1,19 @@
+package com.jumpsoft.taskmanagement.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the task change feed, bound from {@code task-management.task-events}.
+ *
+ * @param bufferSize        Maximum number of events waiting to be sent to one subscriber, a subscriber falling
+ *                          further behind is disconnected.
+ * @param maxEventsPerCommit Maximum number of events of one commit pushed to a subscriber one by one, more are pushed
+ *                          as one bulk change. Below the buffer size, so a large commit alone does not disconnect.
+ * @param heartbeatInterval Time without events after which a comment is sent, keeps proxies from closing the stream.
+ * @param timeout           Time after which a stream is closed, clients reconnect.
+ */
+@ConfigurationProperties(prefix = "task-management.task-events")
+public record TaskEventProperties(int bufferSize, int maxEventsPerCommit, Duration heartbeatInterval, Duration timeout) {
+}
@@ -0,0 +1,12 @@
+package com.jumpsoft.taskmanagement.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the import of tasks from CSV and NDJSON files, bound from {@code task-management.task-import}.
+ *
+ * @param batchSize Maximum number of tasks written by one transaction, which bounds the memory of an import.
+ */
+@ConfigurationProperties(prefix = "task-management.task-import")
+public record TaskImportProperties(int batchSize) {
+}
@@ -2,9 +2,11 @@ package com.jumpsoft.taskmanagement.configuration;
 
 import org.springdoc.core.models.GroupedOpenApi;
 import org.springframework.boot.info.BuildProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.info.GitProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -17,8 +19,12 @@ import io.swagger.v3.oas.models.info.License;
  * Configuration class for Task Management application.
  * This class implements WebMvcConfigurer to customize Spring MVC configuration.
  * It redirects the root URL to the Swagger UI documentation page.
+ * Scheduling runs the archival of done tasks.
  */
 @Configuration
+@EnableScheduling
+@EnableConfigurationProperties({UserDeletionProperties.class, TaskDeletionProperties.class, TaskImportProperties.class,
+        TaskEventProperties.class, TaskArchiveProperties.class, ReplicaDataSourceProperties.class})
 public class TaskManagementConfiguration implements WebMvcConfigurer {
 
     @Override
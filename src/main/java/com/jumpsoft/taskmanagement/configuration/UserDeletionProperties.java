@@ -0,0 +1,12 @@
+package com.jumpsoft.taskmanagement.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the background deletion of users, bound from {@code task-management.user-deletion}.
+ *
+ * @param chunkSize Maximum number of tasks unassigned by one transaction, which bounds the rows it locks.
+ */
+@ConfigurationProperties(prefix = "task-management.user-deletion")
+public record UserDeletionProperties(int chunkSize) {
+}
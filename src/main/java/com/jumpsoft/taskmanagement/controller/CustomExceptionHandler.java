@@ -6,6 +6,7 @@ import java.util.stream.Stream;
 
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import com.jumpsoft.taskmanagement.dto.error.ErrorCode;
 import com.jumpsoft.taskmanagement.dto.error.ResponseError;
 import com.jumpsoft.taskmanagement.dto.error.ResponseErrorItem;
 
@@ -44,6 +46,14 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
 		return new ResponseEntity(responseError, ex.getErrorCode().getHttpStatus());
 	}
 
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public final ResponseEntity<Object> handleConcurrentUpdate(OptimisticLockingFailureException ex, WebRequest request) {
+		ResponseError responseError = ResponseError.of("Request operation not success due to concurrent update",
+				ResponseErrorItem.of(ErrorCode.CONCURRENT_UPDATE.getCode(), ErrorCode.CONCURRENT_UPDATE.getMessage()));
+		log.warn("Request operation not success due to concurrent update: {}", ex.getMessage());
+		return new ResponseEntity(responseError, ErrorCode.CONCURRENT_UPDATE.getHttpStatus());
+	}
+
 	@ExceptionHandler(Exception.class)
 	public final ResponseEntity<Object> handleAllExceptions(Exception ex, WebRequest request) {
     	ResponseError responseError = ResponseError.of("Internal Server Error");
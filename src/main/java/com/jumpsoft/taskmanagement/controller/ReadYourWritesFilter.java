@@ -0,0 +1,51 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import com.jumpsoft.taskmanagement.util.ReadYourWrites;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Starts the read-your-writes window of the client from the time of its last write in the
+ * {@value ReadYourWrites#COOKIE} cookie, see {@link ReadYourWrites}.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReadYourWrites.start(response, window, lastWriteMillis(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+
+    private static long lastWriteMillis(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, ReadYourWrites.COOKIE);
+        if (cookie == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
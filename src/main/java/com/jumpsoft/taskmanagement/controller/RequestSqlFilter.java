@@ -0,0 +1,113 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.jumpsoft.taskmanagement.configuration.SqlBudgetProperties;
+import com.jumpsoft.taskmanagement.util.RequestSqlStatistics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts the SQL statements, rows and JDBC time of every request and reports them in the response headers
+ * {@code X-SQL-Statements}, {@code X-SQL-Rows} and {@code Server-Timing: db;dur=...}. The headers are written
+ * before the response body, statements executed while the body is written are only in the MDC and the log.
+ * Requests over the {@link SqlBudgetProperties} are logged with their SQL.
+ */
+@Slf4j
+public class RequestSqlFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final SqlBudgetProperties budget;
+
+    public RequestSqlFilter(SqlBudgetProperties budget) {
+        this.budget = budget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestSqlStatistics statistics = RequestSqlStatistics.start();
+        SqlHeadersResponse sqlHeadersResponse = new SqlHeadersResponse(response, statistics);
+        try {
+            filterChain.doFilter(request, sqlHeadersResponse);
+        } finally {
+            if (!response.isCommitted()) {
+                sqlHeadersResponse.writeHeaders();
+            }
+            statistics.updateMdc();
+            if (statistics.getStatementCount() > budget.statements() || statistics.getTimeMillis() > budget.time().toMillis()) {
+                log.warn("{} {} exceeded the SQL budget with {} statements, {} rows and {} ms:\n{}",
+                        request.getMethod(), request.getRequestURI(), statistics.getStatementCount(),
+                        statistics.getRows(), statistics.getTimeMillis(), String.join("\n", statistics.getStatements()));
+            }
+            RequestSqlStatistics.end();
+        }
+    }
+
+    /**
+     * Writes the SQL headers as soon as the body or an error is written, the response is committed afterwards.
+     */
+    private static class SqlHeadersResponse extends HttpServletResponseWrapper {
+
+        private final RequestSqlStatistics statistics;
+
+        SqlHeadersResponse(HttpServletResponse response, RequestSqlStatistics statistics) {
+            super(response);
+            this.statistics = statistics;
+        }
+
+        void writeHeaders() {
+            setHeader(STATEMENTS_HEADER, String.valueOf(statistics.getStatementCount()));
+            setHeader(ROWS_HEADER, String.valueOf(statistics.getRows()));
+            setHeader(SERVER_TIMING_HEADER, "db;dur=" + statistics.getTimeMillis());
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
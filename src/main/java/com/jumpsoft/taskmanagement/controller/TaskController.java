@@ -1,23 +1,45 @@
 package com.jumpsoft.taskmanagement.controller;
 
 import com.jumpsoft.taskmanagement.dto.TaskFilter;
+import com.jumpsoft.taskmanagement.dto.page.CursorPage;
 import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.task.TaskBatchCreateResponse;
+import com.jumpsoft.taskmanagement.dto.task.TaskBulkDeleteResponse;
+import com.jumpsoft.taskmanagement.dto.task.TaskChanges;
 import com.jumpsoft.taskmanagement.dto.task.TaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.TaskEvent;
+import com.jumpsoft.taskmanagement.dto.task.TaskImportResponse;
+import com.jumpsoft.taskmanagement.dto.task.TaskStatistics;
+import com.jumpsoft.taskmanagement.dto.task.TaskStatusUpdateRequest;
+import com.jumpsoft.taskmanagement.dto.task.TaskStatusUpdateResponse;
 import com.jumpsoft.taskmanagement.dto.task.TaskUpdateRequest;
+import com.jumpsoft.taskmanagement.dto.task.VersionedTask;
+import com.jumpsoft.taskmanagement.enums.TaskImportFormat;
+import com.jumpsoft.taskmanagement.enums.TaskSort;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.service.TaskEventService;
 import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.TaskStatisticsService;
 
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.MethodParameter;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,7 +49,10 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * TaskController provides RESTful endpoints for managing tasks in the system.
@@ -43,15 +68,101 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    @Autowired
+    private TaskEventService taskEventService;
+
     @GetMapping
-    @Operation(summary = "Retrieve all tasks", description = "Returns a list of all tasks in the system.")
+    @Operation(summary = "Retrieve all tasks", description = "Returns one page of all tasks in the system. "
+            + "Further pages are requested with the nextCursor of the previous page.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved the list of tasks",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of tasks",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "304", description = "No task changed since the page with the ETag in If-None-Match was returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or sort order"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<CursorPage<Task>> getAllTasks(
+            @Parameter(description = "Cursor of the page, as returned in nextCursor of the previous page")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "Maximum number of tasks in the page, at most " + CursorPage.MAX_SIZE, example = "50")
+            @RequestParam(name = "size", required = false) Integer size,
+            @Parameter(description = "Ordering of the tasks", example = "ID")
+            @RequestParam(name = "sort", defaultValue = "ID") TaskSort sort,
+            WebRequest webRequest) throws CustomException {
+        String eTag = "tasks-" + taskService.findTasksVersion();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(taskService.findAllTasks(sort, cursor, size));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Retrieve task statistics", description = "Returns the numbers of tasks by status, category, "
+            + "bug severity and assigned user. The numbers are kept up to date by every change of the tasks, "
+            + "so they are read without counting the tasks.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the task statistics",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskStatistics.class))),
+            @ApiResponse(responseCode = "304", description = "No task changed since the statistics with the ETag in If-None-Match were returned"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<TaskStatistics> getTaskStatistics(WebRequest webRequest) {
+        String eTag = "tasks-" + taskService.findTasksVersion();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(taskStatisticsService.findStatistics());
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all tasks", description = "Streams all tasks in the system ordered by ID as newline delimited JSON, one task per line.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tasks are being streamed",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = Task.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> exportAllTasks() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> taskService.exportTasks(null, outputStream));
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Retrieve task changes", description = "Returns the tasks created, changed or deleted since "
+            + "the token of the previous sync, in the order the changes were committed, together with the token "
+            + "of the next sync. Without a token all tasks are returned. While hasMore is true, "
+            + "further changes are requested right away with the returned token.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the changes",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskChanges.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid change token"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<Task>> getAllTasks() {
-        return ResponseEntity.ok(taskService.findAllTasks());
+    public ResponseEntity<TaskChanges> getTaskChanges(
+            @Parameter(description = "Token returned by the previous sync, missing for a full sync")
+            @RequestParam(name = "since", required = false) String since,
+            @Parameter(description = "Maximum number of changes, at most " + CursorPage.MAX_SIZE, example = "50")
+            @RequestParam(name = "size", required = false) Integer size) throws CustomException {
+        return ResponseEntity.ok(taskService.findTaskChanges(since, size));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to task changes", description = "Streams the changes of tasks as server-sent events "
+            + "once they are committed. The event name is the kind of the change and the data the change. "
+            + "A client falling behind receives a DROPPED event and is disconnected, after reconnecting it has to "
+            + "read the tasks again. Comments are sent as heartbeats while nothing changes.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Changes are being streamed",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = TaskEvent.class)))
+    })
+    public SseEmitter subscribeToTaskEvents(
+            @Parameter(description = "Only changes of tasks assigned to the user before or after the change", example = "1")
+            @RequestParam(name = "userId", required = false) Long userId,
+            @Parameter(description = "Only changes of tasks in the status before or after the change", example = "OPEN")
+            @RequestParam(name = "status", required = false) TaskStatus status) {
+        return taskEventService.subscribe(userId, status);
     }
 
     @GetMapping("/{id}")
@@ -59,13 +170,22 @@ public class TaskController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Task found",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
+            @ApiResponse(responseCode = "304", description = "Task not changed since the ETag in If-None-Match was returned"),
             @ApiResponse(responseCode = "404", description = "Task not found")
     })
     public ResponseEntity<Task> getTaskById(
             @Parameter(description = "Unique identifier of the task", example = "1", required = true)
-            @PathVariable("id") Long id) {
+            @PathVariable("id") Long id,
+            WebRequest webRequest) {
+        Optional<String> eTag = taskService.findTaskVersionTag(id);
+        if (eTag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
         return taskService.findTaskById(id)
-                .map(ResponseEntity::ok)
+                .map(task -> ResponseEntity.ok().eTag(eTag.get()).body(task))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -84,41 +204,119 @@ public class TaskController {
         return new ResponseEntity<>(createdTask, HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create multiple tasks", description = "Create bugs and features in one request. "
+            + "Every task is validated on its own, invalid tasks are reported and skipped while the valid ones are created.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch processed, see created and rejected tasks",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskBatchCreateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed request body or too many tasks in the batch")
+    })
+    public ResponseEntity<TaskBatchCreateResponse> createTasks(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Tasks to create, at most " + TaskService.MAX_BATCH_SIZE, required = true,
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskCreateRequest.class))))
+            @RequestBody List<TaskCreateRequest> taskRequests) throws CustomException {
+        return ResponseEntity.ok(taskService.createTasks(taskRequests));
+    }
+
+    @PostMapping(value = "/import", consumes = {TaskImportFormat.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Import tasks from a file", description = "Imports the bugs and features of a CSV file with a header row "
+            + "or of an NDJSON file, sent as the request body. The file is read as a stream and written in batches, "
+            + "invalid rows are rejected like in a batch creation and reported by their zero based row number.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "File imported, possibly with rejected rows",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskImportResponse.class)))
+    })
+    public ResponseEntity<TaskImportResponse> importTasks(
+            @Parameter(hidden = true) @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "CSV or NDJSON file of tasks, "
+                    + "CSV columns are named like the properties of the create requests", required = true)
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(taskService.importTasks(body, TaskImportFormat.of(contentType)));
+    }
+
     @PostMapping("/search")
-    @Operation(summary = "Search tasks by complex filter", description = "Search for tasks based on a variety of filtering criteria.")
+    @Operation(summary = "Search tasks by complex filter", description = "Search for one page of tasks based on a variety of filtering criteria.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved the filtered list of tasks",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
-            @ApiResponse(responseCode = "400", description = "Invalid filter data provided"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the filtered page of tasks",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid filter data, cursor or sort order provided"),
             @ApiResponse(responseCode = "404", description = "User with the specified userId not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<Task>> searchTasksByFilter(
+    public ResponseEntity<CursorPage<Task>> searchTasksByFilter(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Filter parameters for task search", required = true,
+                    content = @Content(schema = @Schema(implementation = TaskFilter.class)))
+            @Valid @NotNull @RequestBody TaskFilter filter,
+            @Parameter(description = "Cursor of the page, as returned in nextCursor of the previous page")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "Maximum number of tasks in the page, at most " + CursorPage.MAX_SIZE, example = "50")
+            @RequestParam(name = "size", required = false) Integer size,
+            @Parameter(description = "Ordering of the tasks, by default RELEVANCE when the filter has a text and ID otherwise. "
+                    + "Archived tasks cannot be ordered by RELEVANCE", example = "ID")
+            @RequestParam(name = "sort", required = false) TaskSort sort)  throws CustomException {
+        return ResponseEntity.ok(taskService.searchTasks(filter, sort, cursor, size));
+    }
+
+    @PostMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export tasks by complex filter", description = "Streams the tasks matching the filter ordered by ID as newline delimited JSON, one task per line.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Filtered tasks are being streamed",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = Task.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid filter data provided"),
+            @ApiResponse(responseCode = "404", description = "User with the specified userId not found")
+    })
+    public ResponseEntity<StreamingResponseBody> exportTasksByFilter(
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Filter parameters for task search", required = true,
                     content = @Content(schema = @Schema(implementation = TaskFilter.class)))
-            @Valid @NotNull @RequestBody TaskFilter filter)  throws CustomException {
-        return ResponseEntity.ok(taskService.searchTasks(filter));
+            @Valid @NotNull @RequestBody TaskFilter filter) throws CustomException {
+        taskService.validateFilter(filter);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> taskService.exportTasks(filter, outputStream));
+    }
+
+    @PostMapping("/status")
+    @Operation(summary = "Move many tasks to a status", description = "Sets the status of the tasks selected by their IDs "
+            + "or by a filter with a few set-based updates, without loading the tasks one by one.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tasks moved to the status",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskStatusUpdateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid filter, too many IDs or neither or both of IDs and filter given"),
+            @ApiResponse(responseCode = "404", description = "User with the specified userId not found")
+    })
+    public ResponseEntity<TaskStatusUpdateResponse> updateTaskStatus(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "New status and the tasks to move", required = true,
+                    content = @Content(schema = @Schema(implementation = TaskStatusUpdateRequest.class)))
+            @Valid @RequestBody TaskStatusUpdateRequest request) throws CustomException {
+        return ResponseEntity.ok(taskService.updateTaskStatus(request));
     }
 
     @PatchMapping("/{id}")
-    @Operation(summary = "Update an existing task", description = "Update the details of an existing task by ID.")
+    @Operation(summary = "Update an existing task", description = "Update the details of an existing task by ID. "
+            + "With the ETag of the task in If-Match the task is updated only if nobody has changed it since it was read.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Task successfully updated",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
             @ApiResponse(responseCode = "400", description = "Invalid task data or invalid request body"),
             @ApiResponse(responseCode = "404", description = "Task not found"),
             @ApiResponse(responseCode = "404", description = "User with the specified userId not found"),
+            @ApiResponse(responseCode = "409", description = "Task was changed by a concurrent request"),
+            @ApiResponse(responseCode = "412", description = "Task does not have the ETag given in If-Match"),
     })
     public ResponseEntity<Task> updateTask(
             @Parameter(description = "Unique identifier of the task to be updated", example = "1", required = true)
             @PathVariable("id") Long id,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Task information for update", required = true,
                     content = @Content(schema = @Schema(implementation = TaskUpdateRequest.class)))
-            @Valid @RequestBody TaskUpdateRequest taskRequest) throws CustomException, MethodArgumentNotValidException {
+            @Valid @RequestBody TaskUpdateRequest taskRequest,
+            @Parameter(description = "ETag of the task as read by the client")
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws CustomException, MethodArgumentNotValidException {
 
         try {
-            Task updatedTask = taskService.updateTask(id, taskRequest, updateTaskInvalidArguments -> {
+            VersionedTask updatedTask = taskService.updateTask(id, taskRequest, ifMatch, updateTaskInvalidArguments -> {
 
                 BindingResult bindingResult = new BeanPropertyBindingResult(taskRequest, "TaskUpdateRequest");
                 updateTaskInvalidArguments.getArgNames().stream()
@@ -128,17 +326,32 @@ public class TaskController {
                         });
                 throw new MethodArgumentNotValidException(
                         new MethodParameter(
-                                TaskController.class.getDeclaredMethod("updateTask", Long.class, TaskUpdateRequest.class),
+                                TaskController.class.getDeclaredMethod("updateTask", Long.class, TaskUpdateRequest.class, String.class),
                                 1
                         ), bindingResult
                 );
             });
-            return ResponseEntity.ok(updatedTask);
+            return ResponseEntity.ok().eTag(updatedTask.versionTag()).body(updatedTask.task());
         } catch (EntityNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
+    @DeleteMapping
+    @Operation(summary = "Delete tasks by a filter", description = "Deletes all tasks matching the filter given as query "
+            + "parameters, for example status=DONE&createdTo=2024-01-01T00:00:00. The tasks are deleted in bounded batches, "
+            + "each in its own transaction.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Matching tasks deleted",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskBulkDeleteResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid filter or no filter criteria"),
+            @ApiResponse(responseCode = "404", description = "User with the specified userId not found")
+    })
+    public ResponseEntity<TaskBulkDeleteResponse> deleteTasks(
+            @ParameterObject @Valid TaskFilter filter) throws CustomException {
+        return ResponseEntity.ok(taskService.deleteTasks(filter));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a task", description = "Delete a task based on its unique identifier.")
     @ApiResponses({
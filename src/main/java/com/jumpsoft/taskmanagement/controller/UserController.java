@@ -1,12 +1,15 @@
 package com.jumpsoft.taskmanagement.controller;
 
+import com.jumpsoft.taskmanagement.dto.page.CursorPage;
 import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
 import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserDeletionJob;
 import com.jumpsoft.taskmanagement.dto.user.UserUpdateRequest;
+import com.jumpsoft.taskmanagement.service.UserDeletionService;
 import com.jumpsoft.taskmanagement.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -19,8 +22,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import java.util.List;
+import java.util.Optional;
 
 /**
  * UserController provides RESTful endpoints for managing users in the system.
@@ -34,12 +39,28 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserDeletionService userDeletionService;
+
     @GetMapping
-    @Operation(summary = "Get all users", description = "Retrieve a list of all users in the system")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved the list of users",
-            content = @Content(array = @ArraySchema(schema = @Schema(implementation = User.class))))
-    public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(userService.findAllUsers());
+    @Operation(summary = "Get all users", description = "Retrieve one page of users in the system ordered by their ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of users",
+                    content = @Content(schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "304", description = "No user changed since the page with the ETag in If-None-Match was returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CursorPage<User>> getAllUsers(
+            @Parameter(description = "Cursor of the page, as returned in nextCursor of the previous page")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "Maximum number of users in the page, at most " + CursorPage.MAX_SIZE, example = "50")
+            @RequestParam(name = "size", required = false) Integer size,
+            WebRequest webRequest) throws CustomException {
+        String eTag = "users-" + userService.findUsersVersion();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(userService.findAllUsers(cursor, size));
     }
 
     @GetMapping("/{id}")
@@ -47,11 +68,19 @@ public class UserController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "User retrieved successfully",
                     content = @Content(schema = @Schema(implementation = User.class))),
+            @ApiResponse(responseCode = "304", description = "User not changed since the ETag in If-None-Match was returned"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
-    public ResponseEntity<User> getUserById(@PathVariable("id") Long id) {
+    public ResponseEntity<User> getUserById(@PathVariable("id") Long id, WebRequest webRequest) {
+        Optional<String> eTag = userService.findUserVersionTag(id);
+        if (eTag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
         return userService.findUserById(id)
-                .map(ResponseEntity::ok)
+                .map(user -> ResponseEntity.ok().eTag(eTag.get()).body(user))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -86,17 +115,38 @@ public class UserController {
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Delete a user", description = "Remove a user by their unique identifier")
+    @Operation(summary = "Delete a user", description = "Hides the user at once and deletes it in the background. "
+            + "The tasks of the user are unassigned in chunks, the progress is read from the job in the Location header. "
+            + "A failed deletion of the user is restarted.")
     @ApiResponses({
-            @ApiResponse(responseCode = "204", description = "User deleted successfully"),
-            @ApiResponse(responseCode = "404", description = "User not found")
+            @ApiResponse(responseCode = "202", description = "User deletion started",
+                    content = @Content(schema = @Schema(implementation = UserDeletionJob.class))),
+            @ApiResponse(responseCode = "404", description = "User not found or already being deleted")
     })
-    public ResponseEntity<Void> deleteUser(@PathVariable("id") long id) {
+    public ResponseEntity<UserDeletionJob> deleteUser(@PathVariable("id") long id) {
         try {
-        userService.deleteUser(id);
-            return ResponseEntity.noContent().build();
+            UserDeletionJob job = userDeletionService.startDeletion(id);
+            return ResponseEntity.accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                            .path("/api/users/deletions/{jobId}").buildAndExpand(job.id()).toUri())
+                    .body(job);
         } catch (EntityNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
     }
+
+    @GetMapping("/deletions/{jobId}")
+    @Operation(summary = "Get a user deletion job", description = "Retrieve the status and progress of the deletion of a user")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the job",
+                    content = @Content(schema = @Schema(implementation = UserDeletionJob.class))),
+            @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    public ResponseEntity<UserDeletionJob> getUserDeletionJob(
+            @Parameter(description = "Unique identifier of the job", example = "1", required = true)
+            @PathVariable("jobId") Long jobId) {
+        return userDeletionService.findJobById(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
 }
\ No newline at end of file
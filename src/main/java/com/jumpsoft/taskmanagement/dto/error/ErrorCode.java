@@ -12,7 +12,18 @@ import lombok.Getter;
 public enum ErrorCode {
 
     DUPLICATE_USERNAME("DUPLICATE_USERNAME", "Username {0} already exists", HttpStatus.CONFLICT),
-    USER_WITH_ID_NOT_FOUND("USER_WITH_ID_NOT_FOUND", "User with the ID {0} not found", HttpStatus.NOT_FOUND);
+    USER_WITH_ID_NOT_FOUND("USER_WITH_ID_NOT_FOUND", "User with the ID {0} not found", HttpStatus.NOT_FOUND),
+    INVALID_CURSOR("INVALID_CURSOR", "Cursor {0} is not valid for the requested ordering", HttpStatus.BAD_REQUEST),
+    INVALID_CHANGE_TOKEN("INVALID_CHANGE_TOKEN", "Change token {0} is not valid", HttpStatus.BAD_REQUEST),
+    BATCH_TOO_LARGE("BATCH_TOO_LARGE", "Batch can contain at most {0} tasks", HttpStatus.BAD_REQUEST),
+    INVALID_STATUS_UPDATE_TARGET("INVALID_STATUS_UPDATE_TARGET", "Tasks have to be selected either by their IDs or by a filter", HttpStatus.BAD_REQUEST),
+    IMPORT_ROW_UNREADABLE("IMPORT_ROW_UNREADABLE", "Row cannot be read as a task: {0}", HttpStatus.BAD_REQUEST),
+    IMPORT_MALFORMED("IMPORT_MALFORMED", "Input is malformed, the rows from here on were not read: {0}", HttpStatus.BAD_REQUEST),
+    ARCHIVED_TASKS_READ_ONLY("ARCHIVED_TASKS_READ_ONLY", "Archived tasks can only be searched", HttpStatus.BAD_REQUEST),
+    ARCHIVED_TASKS_NOT_RANKED("ARCHIVED_TASKS_NOT_RANKED", "Archived tasks cannot be ordered by relevance", HttpStatus.BAD_REQUEST),
+    RELEVANCE_WITHOUT_TEXT("RELEVANCE_WITHOUT_TEXT", "Tasks can be ordered by relevance only when searching by text", HttpStatus.BAD_REQUEST),
+    TASK_VERSION_MISMATCH("TASK_VERSION_MISMATCH", "Task {0} was changed, its current ETag is {1}", HttpStatus.PRECONDITION_FAILED),
+    CONCURRENT_UPDATE("CONCURRENT_UPDATE", "The entity was changed by another request, read it again and retry", HttpStatus.CONFLICT);
 
     private String code;
     private String message;
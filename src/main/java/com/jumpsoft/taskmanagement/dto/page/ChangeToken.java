@@ -0,0 +1,58 @@
+package com.jumpsoft.taskmanagement.dto.page;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.jumpsoft.taskmanagement.controller.CustomException;
+import com.jumpsoft.taskmanagement.dto.error.ErrorCode;
+
+/**
+ * Position of a client in the delta sync of tasks: the change sequence and the ID of the last change it received.
+ * The ID continues a sync in the middle of a commit which changed more tasks than one response holds.
+ * Clients only see the encoded form, like of {@link PageCursor}.
+ *
+ * @param changeSeq Change sequence of the last received change.
+ * @param id        ID of the task of the last received change.
+ */
+public record ChangeToken(long changeSeq, long id) {
+
+    /**
+     * Position before all tasks, a sync from it returns every task.
+     */
+    public static final ChangeToken START = new ChangeToken(0, 0);
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encodes the token into an opaque URL-safe string.
+     *
+     * @return The encoded token.
+     */
+    public String encode() {
+        String raw = changeSeq + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token The encoded token, may be null or blank for a full sync.
+     * @return The decoded token, or {@link #START} if no token was provided.
+     * @throws CustomException If the token is malformed.
+     */
+    public static ChangeToken decode(String token) throws CustomException {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, -1);
+            if (parts.length != 2) {
+                throw new CustomException(ErrorCode.INVALID_CHANGE_TOKEN, token);
+            }
+            return new ChangeToken(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CHANGE_TOKEN, token);
+        }
+    }
+}
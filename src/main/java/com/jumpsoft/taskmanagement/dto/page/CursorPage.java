@@ -0,0 +1,56 @@
+package com.jumpsoft.taskmanagement.dto.page;
+
+import java.util.List;
+import java.util.function.Function;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * One page of a keyset-paginated collection.
+ * The next page is requested by passing {@code nextCursor} back as the {@code cursor} parameter.
+ *
+ * @param <T> type of the page items
+ */
+@Schema(description = "Represents one page of a collection")
+public record CursorPage<T>(
+        @Schema(description = "Items of the page in the requested order")
+        List<T> items,
+
+        @Schema(description = "Opaque cursor of the next page, missing when this is the last page", nullable = true,
+                example = "SUR8NDJ8")
+        String nextCursor
+) {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 500;
+
+    /**
+     * Clamps the requested page size into the supported range.
+     *
+     * @param size The requested page size, may be null.
+     * @return {@link #DEFAULT_SIZE} for a missing size, otherwise the size bounded by 1 and {@link #MAX_SIZE}.
+     */
+    public static int boundedSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}.
+     * The extra row only signals that another page exists and is not returned.
+     *
+     * @param rows     Rows of the page, at most {@code size + 1}.
+     * @param size     The page size.
+     * @param mapper   Maps a row to the returned item.
+     * @param cursorOf Creates the cursor pointing after the given row.
+     * @return The page with the cursor of the next page, if any.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, T> mapper, Function<E, PageCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), nextCursor);
+    }
+}
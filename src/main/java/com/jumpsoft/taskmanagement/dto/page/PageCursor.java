@@ -0,0 +1,68 @@
+package com.jumpsoft.taskmanagement.dto.page;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.jumpsoft.taskmanagement.controller.CustomException;
+import com.jumpsoft.taskmanagement.dto.error.ErrorCode;
+
+/**
+ * Key of the last row of a returned page, used to continue a keyset scan after it.
+ * Clients only see the encoded form, so the key layout can change without breaking them.
+ *
+ * @param sort      Name of the ordering the key belongs to.
+ * @param id        Identifier of the last row.
+ * @param createdAt Creation time of the last row, only set for time-ordered pages.
+ * @param rank      Text search rank of the last row, only set for pages ordered by relevance.
+ */
+public record PageCursor(String sort, Long id, LocalDateTime createdAt, Long rank) {
+
+    private static final String SEPARATOR = "|";
+
+    public static PageCursor of(String sort, Long id, LocalDateTime createdAt) {
+        return new PageCursor(sort, id, createdAt, null);
+    }
+
+    public static PageCursor of(String sort, Long id, LocalDateTime createdAt, Long rank) {
+        return new PageCursor(sort, id, createdAt, rank);
+    }
+
+    /**
+     * Encodes the cursor into an opaque URL-safe string.
+     *
+     * @return The encoded cursor.
+     */
+    public String encode() {
+        String raw = String.join(SEPARATOR, sort, String.valueOf(id), createdAt == null ? "" : createdAt.toString(),
+                rank == null ? "" : rank.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor       The encoded cursor, may be null or blank for the first page.
+     * @param expectedSort Name of the ordering of the requested page.
+     * @return The decoded cursor, or null if no cursor was provided.
+     * @throws CustomException If the cursor is malformed or was produced for a different ordering.
+     */
+    public static PageCursor decode(String cursor, String expectedSort) throws CustomException {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, -1);
+            // Cursors without the rank were issued before ordering by relevance existed and are still accepted
+            if (parts.length < 3 || parts.length > 4 || !parts[0].equals(expectedSort)) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR, cursor);
+            }
+            return new PageCursor(parts[0], Long.valueOf(parts[1]), parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]),
+                    parts.length < 4 || parts[3].isEmpty() ? null : Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR, cursor);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.jumpsoft.taskmanagement.dto.task;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Represents the result of a batch task creation")
+public record TaskBatchCreateResponse(
+        @ArraySchema(schema = @Schema(implementation = Task.class), arraySchema = @Schema(description = "Created tasks in the order of the request"))
+        List<Task> created,
+
+        @ArraySchema(schema = @Schema(implementation = TaskBatchItemError.class), arraySchema = @Schema(description = "Rejected tasks in the order of the request"))
+        List<TaskBatchItemError> rejected
+) {
+}
@@ -0,0 +1,26 @@
+package com.jumpsoft.taskmanagement.dto.task;
+
+import java.util.List;
+
+import com.jumpsoft.taskmanagement.dto.error.ResponseErrorItem;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Represents a task of a batch request which was rejected")
+public record TaskBatchItemError(
+        @Schema(description = "Zero based position of the task in the request", example = "3")
+        int index,
+
+        @ArraySchema(schema = @Schema(implementation = ResponseErrorItem.class), arraySchema = @Schema(description = "Reasons of the rejection"))
+        List<ResponseErrorItem> errorItems
+) {
+
+    public static TaskBatchItemError of(int index, ResponseErrorItem... errorItems) {
+        return new TaskBatchItemError(index, List.of(errorItems));
+    }
+
+    public static TaskBatchItemError of(int index, List<ResponseErrorItem> errorItems) {
+        return new TaskBatchItemError(index, errorItems);
+    }
+}
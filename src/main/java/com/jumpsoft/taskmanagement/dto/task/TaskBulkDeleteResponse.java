@@ -0,0 +1,10 @@
+package com.jumpsoft.taskmanagement.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Represents the result of the deletion of tasks by a filter")
+public record TaskBulkDeleteResponse(
+        @Schema(description = "Number of deleted tasks", example = "42")
+        long deleted
+) {
+}
@@ -0,0 +1,21 @@
+package com.jumpsoft.taskmanagement.dto.task;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Represents the tasks changed and deleted since a change token")
+public record TaskChanges(
+        @Schema(description = "Tasks created or changed since the token, in the order of their changes")
+        List<Task> changed,
+
+        @Schema(description = "IDs of the tasks deleted since the token")
+        List<Long> deleted,
+
+        @Schema(description = "Opaque token of the next sync, passed as since", example = "NDJ8MTA")
+        String token,
+
+        @Schema(description = "Whether more changes are waiting, the next sync returns them right away", example = "false")
+        boolean hasMore
+) {
+}
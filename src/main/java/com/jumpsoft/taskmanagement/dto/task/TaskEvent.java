@@ -0,0 +1,78 @@
+package com.jumpsoft.taskmanagement.dto.task;
+
+import com.jumpsoft.taskmanagement.enums.TaskEventType;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Change of tasks pushed to the subscribers of the task change feed.
+ * Events of a single task carry its user and status before and after the change. Events of several tasks
+ * carry only what the statement changing them knows, a null user or status there means not known.
+ */
+@Schema(description = "Represents a change of tasks pushed by the task change feed")
+public record TaskEvent(
+        @Schema(description = "Kind of the change", example = "UPDATED")
+        TaskEventType type,
+
+        @Schema(description = "ID of the changed task, null when several tasks changed", example = "1")
+        Long taskId,
+
+        @Schema(description = "The task after a creation or an update")
+        Task task,
+
+        @Schema(description = "ID of the user assigned after the change", example = "2")
+        Long userId,
+
+        @Schema(description = "Status after the change", example = "DONE")
+        TaskStatus status,
+
+        @Schema(description = "ID of the user assigned before the change", example = "1")
+        Long previousUserId,
+
+        @Schema(description = "Status before the change", example = "IN_PROGRESS")
+        TaskStatus previousStatus
+) {
+
+    public static TaskEvent created(Task task) {
+        return new TaskEvent(TaskEventType.CREATED, task.getId(), task, userIdOf(task), task.getStatus(), null, null);
+    }
+
+    public static TaskEvent updated(Long previousUserId, TaskStatus previousStatus, Task task) {
+        return new TaskEvent(TaskEventType.UPDATED, task.getId(), task, userIdOf(task), task.getStatus(),
+                previousUserId, previousStatus);
+    }
+
+    public static TaskEvent deleted(Long taskId, Long previousUserId, TaskStatus previousStatus) {
+        return new TaskEvent(TaskEventType.DELETED, taskId, null, null, null, previousUserId, previousStatus);
+    }
+
+    public static TaskEvent reassigned(Long previousUserId) {
+        return new TaskEvent(TaskEventType.REASSIGNED, null, null, null, null, previousUserId, null);
+    }
+
+    public static TaskEvent bulkChanged(Long userId, TaskStatus status, TaskStatus previousStatus) {
+        return new TaskEvent(TaskEventType.BULK_CHANGED, null, null, userId, status, userId, previousStatus);
+    }
+
+    /**
+     * Checks if a subscriber filtering by the user and the status is interested in the change. A change matches
+     * when the task matched before or after it, events of several tasks also match when the value is not known.
+     *
+     * @param filterUserId The ID of the user, or null for every user.
+     * @param filterStatus The status, or null for every status.
+     * @return true if the event has to be pushed to the subscriber.
+     */
+    public boolean matches(Long filterUserId, TaskStatus filterStatus) {
+        return matches(filterUserId, userId, previousUserId) && matches(filterStatus, status, previousStatus);
+    }
+
+    private boolean matches(Object filter, Object value, Object previous) {
+        return filter == null || filter.equals(value) || filter.equals(previous)
+                || taskId == null && value == null && previous == null;
+    }
+
+    private static Long userIdOf(Task task) {
+        return task.getUser() == null ? null : task.getUser().id();
+    }
+}
@@ -1,8 +1,16 @@
 package com.jumpsoft.taskmanagement.dto;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskCategory;
 import com.jumpsoft.taskmanagement.enums.TaskStatus;
 import com.jumpsoft.taskmanagement.validation.ValidTaskFilter;
 
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,6 +19,8 @@ import lombok.NoArgsConstructor;
 /**
  * Filter criteria for Task queries.
  * Encapsulates parameters used for filtering tasks in search operations.
+ * All criteria which are set have to match.
+ * The filter is read from the request body or, for the deletion of tasks, from the query parameters.
  */
 @Data
 @Builder
@@ -18,6 +28,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @ValidTaskFilter
 public class TaskFilter {
+
+    public static final int MAX_TEXT_LENGTH = 200;
     
     /**
      * The status of the task to filter by.
@@ -30,13 +42,89 @@ public class TaskFilter {
      * Can be null if no user filtering is needed.
      */
     private Long userId;
+
+    /**
+     * When true, only tasks without an assigned user are returned.
+     * Cannot be combined with {@link #userId}.
+     */
+    private Boolean unassigned;
+
+    /**
+     * The category of the task to filter by.
+     * Can be null if no category filtering is needed.
+     */
+    private TaskCategory category;
+
+    /**
+     * The severity of the bug to filter by, restricts the result to bugs.
+     * Can be null if no severity filtering is needed.
+     */
+    private BugSeverity severity;
+
+    /**
+     * The earliest deadline of the feature, inclusive. Restricts the result to features.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate deadlineFrom;
+
+    /**
+     * The latest deadline of the feature, inclusive. Restricts the result to features.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate deadlineTo;
+
+    /**
+     * The earliest creation time of the task, inclusive.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    /**
+     * The creation time the task has to be created before, exclusive.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    /**
+     * Text which the name, description or reproduce steps of the task have to contain.
+     * Can be null if no text search is needed, otherwise the results can be ordered by relevance.
+     */
+    @Size(max = MAX_TEXT_LENGTH)
+    private String text;
+
+    /**
+     * When true, the archive of old done tasks is searched instead of the current tasks.
+     * Archived tasks can only be searched, not exported, updated or deleted by a filter.
+     */
+    private Boolean archived;
     
     /**
-     * Checks if this filter has any criteria set.
+     * Checks if this filter has any criteria set. Selecting the archive counts as one, so the whole archive
+     * can be searched, operations on current tasks reject it separately.
      * 
      * @return true if at least one filter criterion is set, false otherwise
      */
     public boolean hasAnyCriteria() {
-        return status != null || userId != null;
+        return status != null || userId != null || Boolean.TRUE.equals(unassigned) || category != null || severity != null
+                || deadlineFrom != null || deadlineTo != null || createdFrom != null || createdTo != null || text != null
+                || Boolean.TRUE.equals(archived);
+    }
+
+    /**
+     * Checks if the filter can only match bugs.
+     *
+     * @return true if a bug-specific criterion is set, false otherwise
+     */
+    public boolean hasBugCriteria() {
+        return severity != null;
+    }
+
+    /**
+     * Checks if the filter can only match features.
+     *
+     * @return true if a feature-specific criterion is set, false otherwise
+     */
+    public boolean hasFeatureCriteria() {
+        return deadlineFrom != null || deadlineTo != null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.jumpsoft.taskmanagement.dto.task;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Represents the result of a task import")
+public record TaskImportResponse(
+        @Schema(description = "Number of imported tasks", example = "4999998")
+        long imported,
+
+        @Schema(description = "Number of rejected rows, which can be more than the reported ones", example = "2")
+        long rejectedCount,
+
+        @ArraySchema(schema = @Schema(implementation = TaskBatchItemError.class),
+                arraySchema = @Schema(description = "The first rejected rows in the order of the file, the index is the zero based row number without the CSV header"))
+        List<TaskBatchItemError> rejected
+) {
+}
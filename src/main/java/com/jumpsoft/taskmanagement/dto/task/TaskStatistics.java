@@ -0,0 +1,31 @@
+package com.jumpsoft.taskmanagement.dto.task;
+
+import java.util.Map;
+
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskCategory;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Represents the numbers of tasks by status, category, bug severity and assigned user")
+public record TaskStatistics(
+        @Schema(description = "Number of all tasks", example = "42")
+        long total,
+
+        @Schema(description = "Number of tasks by status, every status is present")
+        Map<TaskStatus, Long> byStatus,
+
+        @Schema(description = "Number of tasks by category, every category is present")
+        Map<TaskCategory, Long> byCategory,
+
+        @Schema(description = "Number of bugs by severity, every severity is present")
+        Map<BugSeverity, Long> bySeverity,
+
+        @Schema(description = "Number of tasks by ID of the assigned user, users without tasks are left out")
+        Map<Long, Long> byUser,
+
+        @Schema(description = "Number of tasks without an assigned user", example = "0")
+        long unassigned
+) {
+}
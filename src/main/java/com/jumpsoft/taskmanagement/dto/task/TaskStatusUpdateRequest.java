@@ -0,0 +1,29 @@
+package com.jumpsoft.taskmanagement.dto.task;
+
+import java.util.List;
+
+import com.jumpsoft.taskmanagement.dto.TaskFilter;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Represents a request to move many tasks to a status. "
+        + "The tasks are selected either by their IDs or by a filter.")
+public record TaskStatusUpdateRequest(
+
+        @Schema(description = "New status of the tasks", example = "DONE", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "Status is required")
+        TaskStatus status,
+
+        @ArraySchema(schema = @Schema(description = "ID of a task", example = "1"),
+                arraySchema = @Schema(description = "IDs of the tasks, at most 1000"))
+        List<@NotNull Long> ids,
+
+        @Schema(description = "Filter the tasks have to match", implementation = TaskFilter.class)
+        @Valid
+        TaskFilter filter
+) {
+}
@@ -0,0 +1,10 @@
+package com.jumpsoft.taskmanagement.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Represents the result of a bulk status update")
+public record TaskStatusUpdateResponse(
+        @Schema(description = "Number of tasks which changed their status", example = "42")
+        int updated
+) {
+}
@@ -0,0 +1,11 @@
+package com.jumpsoft.taskmanagement.dto.task;
+
+/**
+ * A task together with its version tag, as written by the transaction which returned it.
+ * The tag is sent as the ETag of the response, so it matches the returned task without reading the task again.
+ *
+ * @param task       The task.
+ * @param versionTag The version tag of the task, unquoted.
+ */
+public record VersionedTask(Task task, String versionTag) {
+}
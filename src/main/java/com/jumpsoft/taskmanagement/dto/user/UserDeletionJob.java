@@ -0,0 +1,32 @@
+package com.jumpsoft.taskmanagement.dto.user;
+
+import java.time.LocalDateTime;
+
+import com.jumpsoft.taskmanagement.enums.UserDeletionStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Represents the background deletion of a user")
+public record UserDeletionJob(
+        @Schema(description = "Unique identifier of the job", example = "1")
+        Long id,
+
+        @Schema(description = "ID of the deleted user", example = "1")
+        Long userId,
+
+        @Schema(description = "Status of the job", example = "RUNNING")
+        UserDeletionStatus status,
+
+        @Schema(description = "Number of tasks of the user unassigned so far", example = "12000")
+        long unassignedTasks,
+
+        @Schema(description = "Time the deletion was requested")
+        LocalDateTime createdAt,
+
+        @Schema(description = "Time the job completed or failed, null while it runs")
+        LocalDateTime finishedAt,
+
+        @Schema(description = "Reason of the failure of the job")
+        String error
+) {
+}
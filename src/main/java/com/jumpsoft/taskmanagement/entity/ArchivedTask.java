@@ -0,0 +1,80 @@
+package com.jumpsoft.taskmanagement.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import com.jumpsoft.taskmanagement.converter.BugSeverityConverter;
+import com.jumpsoft.taskmanagement.converter.TaskCategoryConverter;
+import com.jumpsoft.taskmanagement.converter.TaskStatusConverter;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskCategory;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+
+/* * ArchivedTask is a done task moved from the tasks to the archive by the archival job.
+ * Archived tasks are never changed, so the entity is immutable and flat: bugs and features share the row like
+ * in the tasks table, the category tells which of the columns apply. The rows are written by
+ * TaskBulkRepository#archiveTasks, never through the entity.
+ */
+
+@Entity
+@Table(name = "tasks_archive")
+@Immutable
+@Getter
+public class ArchivedTask {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "description", length = 500)
+    private String description;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Convert(converter = TaskCategoryConverter.class)
+    @Column(name = "category", nullable = false, length = 10)
+    private TaskCategory category;
+
+    @Convert(converter = TaskStatusConverter.class)
+    @Column(name = "status", nullable = false, length = 20)
+    private TaskStatus status;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Convert(converter = BugSeverityConverter.class)
+    @Column(name = "severity", length = 20)
+    private BugSeverity severity;
+
+    @Column(name = "steps_to_reproduce", columnDefinition = "TEXT")
+    private String stepsToReproduce;
+
+    @Column(name = "deadline")
+    private LocalDate deadline;
+
+    @Column(name = "business_value", length = 500)
+    private String businessValue;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
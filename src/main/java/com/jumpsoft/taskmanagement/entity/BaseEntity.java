@@ -1,16 +1,19 @@
 package com.jumpsoft.taskmanagement.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /* * BaseEntity serves as a base class for all entities in the application.
- * It provides a common identifier field that is automatically generated.
+ * It provides a common identifier field that is automatically generated
+ * and a version incremented by every update, used for optimistic locking and as the ETag of the entity.
  * This class should not be instantiated directly but extended by other entity classes.
  */
 
@@ -25,4 +28,8 @@ public class BaseEntity {
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "id_generator")
     private Long id;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 }
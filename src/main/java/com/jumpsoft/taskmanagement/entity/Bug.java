@@ -1,5 +1,7 @@
 package com.jumpsoft.taskmanagement.entity;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.DiscriminatorValue;
@@ -21,6 +23,7 @@ import com.jumpsoft.taskmanagement.enums.BugSeverity;
 
 @Entity
 @DiscriminatorValue("BUG")
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
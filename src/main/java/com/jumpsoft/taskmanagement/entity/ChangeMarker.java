@@ -0,0 +1,34 @@
+package com.jumpsoft.taskmanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.jumpsoft.taskmanagement.enums.ChangedResource;
+
+/* * ChangeMarker holds a counter of one collection which is incremented by every transaction changing it.
+ * The counter is a cheap replacement of a hash of the whole collection when validating cached responses.
+ */
+
+@Entity
+@Table(name = "change_markers")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChangeMarker {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resource", length = 20)
+    private ChangedResource resource;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+}
@@ -1,6 +1,8 @@
 package com.jumpsoft.taskmanagement.entity;
 
 import java.time.LocalDate;
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
@@ -18,6 +20,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @DiscriminatorValue("FEATURE")
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
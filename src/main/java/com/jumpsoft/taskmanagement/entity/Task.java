@@ -2,14 +2,19 @@ package com.jumpsoft.taskmanagement.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.DiscriminatorColumn;
 import jakarta.persistence.DiscriminatorType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
@@ -19,6 +24,7 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 
+import com.jumpsoft.taskmanagement.configuration.EntityCacheConfiguration;
 import com.jumpsoft.taskmanagement.converter.TaskCategoryConverter;
 import com.jumpsoft.taskmanagement.converter.TaskStatusConverter;
 
@@ -30,15 +36,21 @@ import com.jumpsoft.taskmanagement.enums.TaskStatus;
  *
  * This class is mapped to the database with a single table inheritance strategy,
  * allowing different task types to be stored in the same table with a discriminator column.
+ * Bugs and features share the second-level cache region of the root entity.
+ * Updates write only the changed columns (@DynamicUpdate is repeated on the subclasses, Hibernate does not inherit it)
+ * and check the version the task was read with.
  */
 
 @Entity
 @Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfiguration.TASKS_REGION)
+@DynamicUpdate
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "category", discriminatorType = DiscriminatorType.STRING, length = 10)
 @Setter
 @Getter
-@SequenceGenerator(name = "id_generator", sequenceName = "task_id_seq", allocationSize = 1)
+@SequenceGenerator(name = "id_generator", sequenceName = "task_id_seq", allocationSize = 50)
 public class Task extends BaseEntity {
 
     @Column(name = "name", nullable = false, length = 100)
@@ -58,7 +70,14 @@ public class Task extends BaseEntity {
     @Column(name = "status", nullable = false, length = 20)
     private TaskStatus status;
 
-    @ManyToOne
+    /**
+     * Change sequence of the delta sync, see {@link com.jumpsoft.taskmanagement.service.ChangeMarkerService#pendingTaskChangeSeq()}.
+     * Cached and managed tasks keep the placeholder of their last write, the committed value is only read by queries.
+     */
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = true)
     @OnDelete(action = OnDeleteAction.SET_NULL)
     private User user;
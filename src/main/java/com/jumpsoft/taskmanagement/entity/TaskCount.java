@@ -0,0 +1,70 @@
+package com.jumpsoft.taskmanagement.entity;
+
+import java.io.Serializable;
+import java.util.Comparator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.jumpsoft.taskmanagement.enums.TaskCountDimension;
+
+/* * TaskCount holds the number of tasks in one bucket of a dimension, e.g. the open tasks of the status dimension.
+ * The counts are adjusted by every transaction changing tasks, so statistics never have to scan the tasks table.
+ */
+
+@Entity
+@Table(name = "task_counts")
+@IdClass(TaskCount.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCount {
+
+    /**
+     * Bucket of the assignee dimension counting the tasks without a user.
+     */
+    public static final String UNASSIGNED = "UNASSIGNED";
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", length = 20)
+    private TaskCountDimension dimension;
+
+    @Id
+    @Column(name = "bucket", length = 20)
+    private String bucket;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    /**
+     * Identifier of a task count. Keys are ordered, so counts can be updated in the same order by all transactions.
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable, Comparable<Key> {
+
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::getDimension).thenComparing(Key::getBucket);
+
+        private TaskCountDimension dimension;
+        private String bucket;
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
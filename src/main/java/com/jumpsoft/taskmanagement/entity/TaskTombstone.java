@@ -0,0 +1,43 @@
+package com.jumpsoft.taskmanagement.entity;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/* * TaskTombstone records the deletion of a task for the delta sync, so clients which synchronized the task
+ * learn that it is gone. Task IDs are never reused, a task has at most one tombstone, so tombstones are always
+ * new and saved without the select of a merge.
+ */
+
+@Entity
+@Table(name = "task_tombstones")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone implements Persistable<Long> {
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Override
+    public Long getId() {
+        return taskId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
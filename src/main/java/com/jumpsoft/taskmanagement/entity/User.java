@@ -1,12 +1,16 @@
 package com.jumpsoft.taskmanagement.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import com.jumpsoft.taskmanagement.configuration.EntityCacheConfiguration;
+
 /**
  * Represents a user in the task management system.
  * Each user can have multiple tasks assigned to them.
@@ -14,9 +18,11 @@ import java.util.List;
  */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfiguration.USERS_REGION)
 @Setter
 @Getter
-@SequenceGenerator(name = "id_generator", sequenceName = "user_id_seq", allocationSize = 1)
+@SequenceGenerator(name = "id_generator", sequenceName = "user_id_seq", allocationSize = 50)
 public class User extends BaseEntity {
 
     @Column(name = "username", unique = true, nullable = false, length = 20)
@@ -25,6 +31,13 @@ public class User extends BaseEntity {
     @Column(name = "full_name", nullable = false, length = 40)
     private String fullName;
 
+    /**
+     * Set when the deletion of the user starts. The user is then hidden and cannot be assigned,
+     * while the background job unassigns the tasks of the user before removing it.
+     */
+    @Column(name = "deleting", nullable = false)
+    private boolean deleting;
+
     @OneToMany(mappedBy = "user")
     private List<Task> tasks;
 
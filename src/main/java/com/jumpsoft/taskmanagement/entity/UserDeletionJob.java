@@ -0,0 +1,46 @@
+package com.jumpsoft.taskmanagement.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import com.jumpsoft.taskmanagement.enums.UserDeletionStatus;
+
+/**
+ * Tracks the background deletion of a user, which unassigns the tasks of the user chunk by chunk
+ * and removes the user afterwards. The job outlives the user, so it only keeps the user ID.
+ */
+@Entity
+@Table(name = "user_deletion_jobs")
+@Setter
+@Getter
+@SequenceGenerator(name = "id_generator", sequenceName = "user_deletion_job_id_seq", allocationSize = 1)
+public class UserDeletionJob extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private UserDeletionStatus status;
+
+    @Column(name = "unassigned_tasks", nullable = false)
+    private long unassignedTasks;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error", length = 500)
+    private String error;
+
+}
@@ -0,0 +1,9 @@
+package com.jumpsoft.taskmanagement.enums;
+
+/**
+ * Collections which have a change marker, see {@link com.jumpsoft.taskmanagement.service.ChangeMarkerService}.
+ */
+public enum ChangedResource {
+    TASKS,
+    USERS
+}
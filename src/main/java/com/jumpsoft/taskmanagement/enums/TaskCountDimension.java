@@ -0,0 +1,11 @@
+package com.jumpsoft.taskmanagement.enums;
+
+/**
+ * Dimensions of the task counts, see {@link com.jumpsoft.taskmanagement.service.TaskStatisticsService}.
+ */
+public enum TaskCountDimension {
+    STATUS,
+    CATEGORY,
+    SEVERITY,
+    ASSIGNEE
+}
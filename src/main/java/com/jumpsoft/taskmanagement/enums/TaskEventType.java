@@ -0,0 +1,23 @@
+package com.jumpsoft.taskmanagement.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Represents the kinds of changes pushed to the subscribers of the task change feed.
+ */
+@Schema(enumAsRef = true, description = "Possible kinds of task change events")
+public enum TaskEventType {
+
+    CREATED,
+    UPDATED,
+    DELETED,
+    /**
+     * Tasks of a deleted user became unassigned.
+     */
+    REASSIGNED,
+    /**
+     * Several tasks were changed by one set-based statement, such as a status update, a deletion by filter
+     * or an import. The tasks are not listed, clients read them again.
+     */
+    BULK_CHANGED
+}
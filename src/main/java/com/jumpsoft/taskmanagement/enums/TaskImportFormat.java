@@ -0,0 +1,29 @@
+package com.jumpsoft.taskmanagement.enums;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Represents the file formats tasks can be imported from.
+ * Both carry the properties of the task create requests, {@code category} selects a bug or a feature.
+ */
+public enum TaskImportFormat {
+
+    /**
+     * Comma separated values, the header row names the property of every column. Empty values are missing values.
+     */
+    CSV,
+    /**
+     * Newline delimited JSON, one create request per line.
+     */
+    NDJSON;
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    /**
+     * @param contentType Content type of the imported file, text/csv or application/x-ndjson.
+     * @return The format of the file.
+     */
+    public static TaskImportFormat of(MediaType contentType) {
+        return MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType) ? NDJSON : CSV;
+    }
+}
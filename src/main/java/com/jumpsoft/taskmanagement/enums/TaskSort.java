@@ -0,0 +1,50 @@
+package com.jumpsoft.taskmanagement.enums;
+
+import org.springframework.data.domain.Sort;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Represents the ordering of paged task results.
+ * The id is always the last sort key, so every ordering is total and can be used for keyset pagination.
+ */
+@Schema(enumAsRef = true, description = "Possible orderings of paged tasks")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public enum TaskSort {
+
+    ID(Sort.by("id")),
+    ID_DESC(Sort.by(Sort.Direction.DESC, "id")),
+    CREATED_AT(Sort.by("createdAt", "id")),
+    CREATED_AT_DESC(Sort.by(Sort.Direction.DESC, "createdAt", "id")),
+    /**
+     * Most relevant tasks for the text query of the filter first, the rank is not a property so only the id is sorted on.
+     */
+    RELEVANCE(Sort.by("id"));
+
+    @Getter
+    private final Sort sort;
+
+    /**
+     * @return true if the tasks are ordered by creation time first, so the cursor has to carry it.
+     */
+    public boolean isByCreatedAt() {
+        return sort.getOrderFor("createdAt") != null;
+    }
+
+    /**
+     * @return true if the tasks are ordered by their text search rank first, so the cursor has to carry it.
+     */
+    public boolean isRanked() {
+        return this == RELEVANCE;
+    }
+
+    /**
+     * @return true if the tasks are ordered from the highest key to the lowest.
+     */
+    public boolean isDescending() {
+        return sort.getOrderFor("id").isDescending();
+    }
+}
@@ -0,0 +1,18 @@
+package com.jumpsoft.taskmanagement.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(enumAsRef = true, description = "Possible statuses of user deletion jobs")
+public enum UserDeletionStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    /**
+     * @return Whether the job has not finished yet, failed jobs are finished until they are restarted.
+     */
+    public boolean isUnfinished() {
+        return this == PENDING || this == RUNNING;
+    }
+}
@@ -7,6 +7,7 @@ import com.jumpsoft.taskmanagement.dto.task.BugTask;
 import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
 import com.jumpsoft.taskmanagement.dto.task.FeatureTask;
 import com.jumpsoft.taskmanagement.dto.task.FeatureTaskCreateRequest;
+import com.jumpsoft.taskmanagement.entity.ArchivedTask;
 import com.jumpsoft.taskmanagement.entity.Bug;
 import com.jumpsoft.taskmanagement.entity.Feature;
 
@@ -17,11 +18,18 @@ import com.jumpsoft.taskmanagement.entity.Feature;
 @Mapper(componentModel = "spring", uses = { UserMapper.class })
 public interface TaskMapper {
 
+    @Mapping(target = "reproduceSteps", source = "stepsToReproduce")
     BugTask toBugDTO(Bug bug);
 
     FeatureTask toFeatureDTO(Feature feature);
 
+    @Mapping(target = "reproduceSteps", source = "stepsToReproduce")
+    BugTask toBugDTO(ArchivedTask bug);
+
+    FeatureTask toFeatureDTO(ArchivedTask feature);
+
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "stepsToReproduce", source = "reproduceSteps")
     Bug toBugEntity(BugTaskCreateRequest bugRequest);
 
     @Mapping(target = "id", ignore = true)
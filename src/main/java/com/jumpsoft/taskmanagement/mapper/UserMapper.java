@@ -5,6 +5,7 @@ import org.mapstruct.Mapping;
 
 import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
 import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserDeletionJob;
 import com.jumpsoft.taskmanagement.dto.user.UserUpdateRequest;
 
 /**
@@ -16,12 +17,16 @@ public interface UserMapper {
 
   User toDTO(com.jumpsoft.taskmanagement.entity.User user);
 
+  UserDeletionJob toDTO(com.jumpsoft.taskmanagement.entity.UserDeletionJob job);
+
   @Mapping(target = "id", ignore = true)
   @Mapping(target = "tasks", ignore = true)
+  @Mapping(target = "deleting", ignore = true)
   com.jumpsoft.taskmanagement.entity.User toEntity(UserCreateRequest dto);
 
   @Mapping(target = "id", ignore = true)
   @Mapping(target = "username", ignore = true)
   @Mapping(target = "tasks", ignore = true)
+  @Mapping(target = "deleting", ignore = true)
   com.jumpsoft.taskmanagement.entity.User toEntity(UserUpdateRequest dto);
 }
\ No newline at end of file
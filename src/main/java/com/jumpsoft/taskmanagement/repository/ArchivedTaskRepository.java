@@ -0,0 +1,27 @@
+package com.jumpsoft.taskmanagement.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+import com.jumpsoft.taskmanagement.entity.ArchivedTask;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long>, JpaSpecificationExecutor<ArchivedTask> {
+
+    /**
+     * Reads the first archived tasks matching the specification with their users, without counting all matches.
+     *
+     * @param spec  The specification the tasks have to match.
+     * @param sort  The ordering of the tasks.
+     * @param limit Maximum number of tasks to return.
+     * @return The archived tasks in the requested order.
+     */
+    default List<ArchivedTask> findFirst(Specification<ArchivedTask> spec, Sort sort, int limit) {
+        return findBy(spec, query -> query.sortBy(sort).limit(limit).project("user").all());
+    }
+}
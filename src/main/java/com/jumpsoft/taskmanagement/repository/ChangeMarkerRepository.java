@@ -0,0 +1,35 @@
+package com.jumpsoft.taskmanagement.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jumpsoft.taskmanagement.entity.ChangeMarker;
+import com.jumpsoft.taskmanagement.enums.ChangedResource;
+
+@Repository
+public interface ChangeMarkerRepository extends JpaRepository<ChangeMarker, ChangedResource> {
+
+    /**
+     * Reads the current version of a change marker.
+     *
+     * @param resource The collection of the marker.
+     * @return The version of the marker.
+     */
+    @Query("SELECT m.version FROM ChangeMarker m WHERE m.resource = :resource")
+    long findVersion(@Param("resource") ChangedResource resource);
+
+    /**
+     * Increments the versions of change markers.
+     *
+     * @param resources The collections of the markers.
+     * @return The number of updated markers.
+     */
+    @Modifying
+    @Query("UPDATE ChangeMarker m SET m.version = m.version + 1 WHERE m.resource IN :resources")
+    int increment(@Param("resources") Collection<ChangedResource> resources);
+}
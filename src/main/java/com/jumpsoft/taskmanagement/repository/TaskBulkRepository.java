@@ -0,0 +1,104 @@
+package com.jumpsoft.taskmanagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jumpsoft.taskmanagement.entity.Task;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskCategory;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+
+/**
+ * Repository fragment for changing many tasks with one statement instead of loading and saving each of them.
+ */
+public interface TaskBulkRepository {
+
+    /**
+     * Sets the status of all tasks matching the specification in one UPDATE, incrementing their versions.
+     * Pending changes are flushed before the update and the persistence context is cleared after it,
+     * Hibernate evicts the whole task cache region.
+     *
+     * @param spec      The specification the updated tasks have to match.
+     * @param status    The new status of the tasks.
+     * @param changeSeq The pending change sequence of the transaction.
+     * @return The number of updated tasks.
+     */
+    int updateStatus(Specification<Task> spec, TaskStatus status, long changeSeq);
+
+    /**
+     * Reads the IDs of the first tasks matching the specification and locks their rows until the transaction ends,
+     * so the tasks cannot change before they are deleted.
+     *
+     * @param spec  The specification the tasks have to match.
+     * @param limit Maximum number of IDs to return.
+     * @return IDs of the matching tasks in ascending order.
+     */
+    List<Long> findIdsForUpdate(Specification<Task> spec, int limit);
+
+    /**
+     * Deletes the tasks with the IDs in one statement, which also returns the values the task counts are kept by,
+     * so the tasks are never loaded. Their second-level cache entries are locked like by a delete of the entities,
+     * managed instances are detached.
+     *
+     * @param ids IDs of the tasks.
+     * @return The deleted tasks, IDs of tasks which do not exist are skipped.
+     */
+    List<DeletedTask> deleteTasks(Collection<Long> ids);
+
+    /**
+     * Inserts new tasks without keeping them in the persistence context. On PostgreSQL the tasks are copied
+     * into a temporary staging table with COPY and moved to the tasks with one INSERT, which skips tasks whose user
+     * has been deleted in the meantime. Other databases get batched inserts.
+     *
+     * @param tasks New tasks with their users, IDs are assigned by this method.
+     * @return IDs of the inserted tasks.
+     */
+    Set<Long> importTasks(List<Task> tasks);
+
+    /**
+     * Replaces the pending change sequence of the tasks written by the current transaction with the committed one.
+     * Pending changes are flushed first, the task cache region is not evicted.
+     *
+     * @param pendingChangeSeq The placeholder the tasks were written with.
+     * @param changeSeq        The change sequence of the commit.
+     * @return The number of stamped tasks.
+     */
+    int stampChangeSeq(long pendingChangeSeq, long changeSeq);
+
+    /**
+     * Copies the tasks with the IDs into the archive with one INSERT ... SELECT, the tasks are not loaded.
+     * The tasks stay in the tasks table, they are removed by {@link #deleteTasks(Collection)} in the same transaction.
+     * No cache region is evicted, the archive is not cached.
+     *
+     * @param ids        IDs of the tasks.
+     * @param archivedAt The time of the archival.
+     * @return The number of archived tasks.
+     */
+    int archiveTasks(Collection<Long> ids, LocalDateTime archivedAt);
+
+    /**
+     * Unassigns the first archived tasks of the user in ID order with one UPDATE, incrementing their versions.
+     * No cache region is evicted, the archive is not cached.
+     *
+     * @param userId ID of the assigned user.
+     * @param limit  Maximum number of tasks to unassign.
+     * @return The number of unassigned tasks.
+     */
+    int unassignArchivedTasks(Long userId, int limit);
+
+    /**
+     * Values of a deleted task which determine the buckets it was counted in.
+     *
+     * @param id       The ID of the task.
+     * @param status   The status of the task.
+     * @param category The category of the task.
+     * @param severity The severity of a bug, null for features.
+     * @param userId   The ID of the assigned user, null for unassigned tasks.
+     */
+    record DeletedTask(Long id, TaskStatus status, TaskCategory category, BugSeverity severity, Long userId) {
+    }
+}
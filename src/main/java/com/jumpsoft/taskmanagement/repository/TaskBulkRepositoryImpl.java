@@ -0,0 +1,277 @@
+package com.jumpsoft.taskmanagement.repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+import org.postgresql.PGConnection;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jumpsoft.taskmanagement.entity.Bug;
+import com.jumpsoft.taskmanagement.entity.Feature;
+import com.jumpsoft.taskmanagement.entity.Task;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskCategory;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria API and native SQL implementation of {@link TaskBulkRepository}.
+ */
+public class TaskBulkRepositoryImpl implements TaskBulkRepository {
+
+    private static final String DELETED_COLUMNS = "id, status, category, severity, user_id";
+
+    /**
+     * PostgreSQL returns the deleted rows with RETURNING, H2 selects them from the OLD TABLE of the delete.
+     */
+    private static final String POSTGRESQL_DELETE = "DELETE FROM tasks WHERE id IN (:ids) RETURNING " + DELETED_COLUMNS;
+    private static final String H2_DELETE = "SELECT " + DELETED_COLUMNS + " FROM OLD TABLE (DELETE FROM tasks WHERE id IN (:ids))";
+
+    private static final String IMPORTED_COLUMNS = "id, version, name, description, created_at, category, status, user_id, "
+            + "severity, steps_to_reproduce, deadline, business_value, change_seq";
+
+    /**
+     * Session-local staging table of the imported tasks, emptied by every commit. Without constraints, so the COPY
+     * does not fail on a user deleted in the meantime.
+     */
+    private static final String CREATE_IMPORT_STAGING = """
+            CREATE TEMPORARY TABLE IF NOT EXISTS task_import (
+                id BIGINT, version BIGINT, name VARCHAR(100), description VARCHAR(500), created_at TIMESTAMP,
+                category VARCHAR(10), status VARCHAR(20), user_id BIGINT, severity VARCHAR(20), steps_to_reproduce TEXT,
+                deadline DATE, business_value VARCHAR(500), change_seq BIGINT
+            ) ON COMMIT DELETE ROWS""";
+    private static final String COPY_IMPORT_STAGING = "COPY task_import (" + IMPORTED_COLUMNS + ") FROM STDIN";
+    private static final String INSERT_FROM_IMPORT_STAGING = "INSERT INTO tasks (" + IMPORTED_COLUMNS + ") "
+            + "SELECT " + IMPORTED_COLUMNS + " FROM task_import s "
+            + "WHERE EXISTS (SELECT 1 FROM users u WHERE u.id = s.user_id AND NOT u.deleting) RETURNING id";
+
+    private static final String STAMP_CHANGE_SEQ = "UPDATE tasks SET change_seq = :changeSeq WHERE change_seq = :pendingChangeSeq";
+
+    /**
+     * Query space of no cached entity. A native update without one makes Hibernate evict every cache region,
+     * the tasks in the cache do not hold the committed change sequence anyway.
+     */
+    private static final String CHANGE_SEQ_QUERY_SPACE = "task_change_seq";
+
+    private static final String ARCHIVED_COLUMNS = "id, version, name, description, created_at, category, status, user_id, "
+            + "severity, steps_to_reproduce, deadline, business_value";
+    private static final String ARCHIVE_TASKS = "INSERT INTO tasks_archive (" + ARCHIVED_COLUMNS + ", archived_at) "
+            + "SELECT " + ARCHIVED_COLUMNS + ", :archivedAt FROM tasks WHERE id IN (:ids)";
+    private static final String UNASSIGN_ARCHIVED_TASKS = "UPDATE tasks_archive SET user_id = NULL, version = version + 1 "
+            + "WHERE id IN (SELECT id FROM tasks_archive WHERE user_id = :userId ORDER BY id LIMIT :limit)";
+
+    /**
+     * Query space of the archive, which is not cached, so its updates evict no cache region.
+     */
+    private static final String ARCHIVE_QUERY_SPACE = "tasks_archive";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateStatus(Specification<Task> spec, TaskStatus status, long changeSeq) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+        update.set(root.<TaskStatus>get("status"), status);
+        update.set(root.<Long>get("version"), cb.sum(root.get("version"), 1L));
+        update.set(root.<Long>get("changeSeq"), changeSeq);
+        // The specifications of tasks only use the root and the criteria builder, not the query
+        update.where(spec.toPredicate(root, null, cb));
+
+        entityManager.flush();
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    @Override
+    public List<Long> findIdsForUpdate(Specification<Task> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(root.get("id"))
+                .where(spec.toPredicate(root, query, cb))
+                .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+    }
+
+    @Override
+    public List<DeletedTask> deleteTasks(Collection<Long> ids) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Task.class);
+        boolean postgresql = session.getFactory().getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+
+        entityManager.flush();
+        for (Long id : ids) {
+            lockCacheItem(session, persister, id);
+            Object managed = session.getPersistenceContextInternal().getEntity(new EntityKey(id, persister));
+            if (managed != null) {
+                entityManager.detach(managed);
+            }
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(postgresql ? POSTGRESQL_DELETE : H2_DELETE)
+                .setParameter("ids", ids)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new DeletedTask(
+                        ((Number) row[0]).longValue(),
+                        TaskStatus.valueOf((String) row[1]),
+                        TaskCategory.valueOf((String) row[2]),
+                        row[3] == null ? null : BugSeverity.valueOf((String) row[3]),
+                        row[4] == null ? null : ((Number) row[4]).longValue()))
+                .toList();
+    }
+
+    @Override
+    public Set<Long> importTasks(List<Task> tasks) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        if (!(session.getFactory().getJdbcServices().getDialect() instanceof PostgreSQLDialect)) {
+            tasks.forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+            return tasks.stream().map(Task::getId).collect(Collectors.toSet());
+        }
+
+        // IDs come from the generator of the entity, so they are taken from the same pooled blocks as for persist
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Task.class).getGenerator();
+        StringBuilder rows = new StringBuilder(tasks.size() * 256);
+        for (Task task : tasks) {
+            task.setId((Long) generator.generate(session, task, null, EventType.INSERT));
+            task.setVersion(0L);
+            appendCopyRow(rows, task);
+        }
+        return session.doReturningWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_IMPORT_STAGING);
+            }
+            try {
+                connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_IMPORT_STAGING, new StringReader(rows.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Set<Long> inserted = new HashSet<>(tasks.size());
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(INSERT_FROM_IMPORT_STAGING)) {
+                while (resultSet.next()) {
+                    inserted.add(resultSet.getLong(1));
+                }
+            }
+            return inserted;
+        });
+    }
+
+    @Override
+    public int stampChangeSeq(long pendingChangeSeq, long changeSeq) {
+        entityManager.flush();
+        return entityManager.createNativeQuery(STAMP_CHANGE_SEQ)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(CHANGE_SEQ_QUERY_SPACE)
+                .setParameter("changeSeq", changeSeq)
+                .setParameter("pendingChangeSeq", pendingChangeSeq)
+                .executeUpdate();
+    }
+
+    @Override
+    public int archiveTasks(Collection<Long> ids, LocalDateTime archivedAt) {
+        entityManager.flush();
+        return entityManager.createNativeQuery(ARCHIVE_TASKS)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(ARCHIVE_QUERY_SPACE)
+                .setParameter("archivedAt", archivedAt)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    @Override
+    public int unassignArchivedTasks(Long userId, int limit) {
+        return entityManager.createNativeQuery(UNASSIGN_ARCHIVED_TASKS)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(ARCHIVE_QUERY_SPACE)
+                .setParameter("userId", userId)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    /**
+     * Appends the task as a row of the COPY text format, columns in the order of {@link #IMPORTED_COLUMNS}.
+     */
+    private static void appendCopyRow(StringBuilder rows, Task task) {
+        Bug bug = task instanceof Bug b ? b : null;
+        Feature feature = task instanceof Feature f ? f : null;
+        appendCopyValues(rows, task.getId(), task.getVersion(), task.getName(), task.getDescription(), task.getCreatedAt(),
+                bug != null ? TaskCategory.BUG : TaskCategory.FEATURE, task.getStatus(), task.getUser().getId(),
+                bug == null ? null : bug.getSeverity(), bug == null ? null : bug.getStepsToReproduce(),
+                feature == null ? null : feature.getDeadline(), feature == null ? null : feature.getBusinessValue(),
+                task.getChangeSeq());
+    }
+
+    private static void appendCopyValues(StringBuilder rows, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                rows.append('\t');
+            }
+            if (values[i] == null) {
+                rows.append("\\N");
+                continue;
+            }
+            String value = values[i] instanceof Enum<?> constant ? constant.name() : values[i].toString();
+            for (int c = 0; c < value.length(); c++) {
+                char ch = value.charAt(c);
+                switch (ch) {
+                    case '\\' -> rows.append("\\\\");
+                    case '\t' -> rows.append("\\t");
+                    case '\n' -> rows.append("\\n");
+                    case '\r' -> rows.append("\\r");
+                    default -> rows.append(ch);
+                }
+            }
+        }
+        rows.append('\n');
+    }
+
+    /**
+     * Locks the cache entry of the task until the transaction completes, the way Hibernate does it for deleted entities,
+     * so concurrent loads cannot put the deleted task back into the cache.
+     */
+    private void lockCacheItem(SessionImplementor session, EntityPersister persister, Long id) {
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        EntityDataAccess cache = persister.getCacheAccessStrategy();
+        Object key = cache.generateCacheKey(id, persister, session.getFactory(), session.getTenantIdentifier());
+        SoftLock lock = cache.lockItem(session, key, null);
+        session.getActionQueue().registerProcess((success, completedSession) -> cache.unlockItem(completedSession, key, lock));
+    }
+}
@@ -0,0 +1,48 @@
+package com.jumpsoft.taskmanagement.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jumpsoft.taskmanagement.entity.TaskCount;
+import com.jumpsoft.taskmanagement.enums.TaskCountDimension;
+
+@Repository
+public interface TaskCountRepository extends JpaRepository<TaskCount, TaskCount.Key> {
+
+    /**
+     * Reads the counts of all buckets except the assignees without tasks.
+     *
+     * @return The task counts.
+     */
+    @Query("SELECT c FROM TaskCount c WHERE c.dimension <> com.jumpsoft.taskmanagement.enums.TaskCountDimension.ASSIGNEE"
+            + " OR c.taskCount <> 0")
+    List<TaskCount> findNonEmpty();
+
+    /**
+     * Adds to the count of a bucket.
+     *
+     * @param dimension The dimension of the bucket.
+     * @param bucket    The bucket.
+     * @param delta     The number of tasks added to the bucket, negative if tasks were removed from it.
+     * @return The number of updated counts.
+     */
+    @Modifying
+    @Query("UPDATE TaskCount c SET c.taskCount = c.taskCount + :delta WHERE c.dimension = :dimension AND c.bucket = :bucket")
+    int add(@Param("dimension") TaskCountDimension dimension, @Param("bucket") String bucket, @Param("delta") long delta);
+
+    /**
+     * Deletes the count of an assigned user.
+     *
+     * @param bucket The bucket of the user.
+     * @return The number of deleted counts.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskCount c WHERE c.dimension = com.jumpsoft.taskmanagement.enums.TaskCountDimension.ASSIGNEE"
+            + " AND c.bucket = :bucket")
+    int deleteAssignee(@Param("bucket") String bucket);
+}
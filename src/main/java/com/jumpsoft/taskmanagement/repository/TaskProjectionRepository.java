@@ -0,0 +1,50 @@
+package com.jumpsoft.taskmanagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jumpsoft.taskmanagement.dto.task.Task;
+
+/**
+ * Repository fragment for read-only task queries which build the DTOs directly from the selected columns,
+ * without creating managed entities.
+ */
+public interface TaskProjectionRepository {
+
+    /**
+     * Task DTO together with the columns needed to continue a keyset scan after it.
+     *
+     * @param task      The task DTO.
+     * @param createdAt Creation time of the task.
+     * @param rank      Text search rank of the task, only set by {@link #findRankedRows}.
+     * @param changeSeq Change sequence of the last change of the task.
+     */
+    record TaskRow(Task task, LocalDateTime createdAt, Long rank, long changeSeq) {
+    }
+
+    /**
+     * Finds the tasks matching the specification and builds their DTOs from one tuple query,
+     * the category column selects whether a bug or a feature is created.
+     *
+     * @param spec  The specification the tasks have to match, or null for all tasks.
+     *              It must not add fetch joins, the query does not return entities.
+     * @param sort  The order of the tasks.
+     * @param limit Maximum number of tasks to return.
+     * @return The matching tasks.
+     */
+    List<TaskRow> findRows(Specification<com.jumpsoft.taskmanagement.entity.Task> spec, Sort sort, int limit);
+
+    /**
+     * Finds the tasks matching the specification ordered by their rank for the text, the most relevant first
+     * and by id when the ranks are equal. The specification is expected to restrict the tasks to those matching the text.
+     *
+     * @param spec  The specification the tasks have to match, it must not add fetch joins.
+     * @param text  The text the tasks are ranked by.
+     * @param limit Maximum number of tasks to return.
+     * @return The matching tasks with their rank.
+     */
+    List<TaskRow> findRankedRows(Specification<com.jumpsoft.taskmanagement.entity.Task> spec, String text, int limit);
+}
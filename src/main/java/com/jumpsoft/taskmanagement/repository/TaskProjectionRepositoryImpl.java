@@ -0,0 +1,128 @@
+package com.jumpsoft.taskmanagement.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.jumpsoft.taskmanagement.dto.task.BugTask;
+import com.jumpsoft.taskmanagement.dto.task.FeatureTask;
+import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.entity.Bug;
+import com.jumpsoft.taskmanagement.entity.Feature;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskCategory;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Criteria API implementation of {@link TaskProjectionRepository}.
+ */
+public class TaskProjectionRepositoryImpl implements TaskProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskRow> findRows(Specification<com.jumpsoft.taskmanagement.entity.Task> spec, Sort sort, int limit) {
+        return findRows(spec, sort, null, limit);
+    }
+
+    @Override
+    public List<TaskRow> findRankedRows(Specification<com.jumpsoft.taskmanagement.entity.Task> spec, String text, int limit) {
+        return findRows(spec, Sort.by("id"), text, limit);
+    }
+
+    private List<TaskRow> findRows(Specification<com.jumpsoft.taskmanagement.entity.Task> spec, Sort sort,
+                                   String rankText, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<com.jumpsoft.taskmanagement.entity.Task> root = query.from(com.jumpsoft.taskmanagement.entity.Task.class);
+        Join<com.jumpsoft.taskmanagement.entity.Task, com.jumpsoft.taskmanagement.entity.User> user = root.join("user", JoinType.LEFT);
+        Root<Bug> bug = cb.treat(root, Bug.class);
+        Root<Feature> feature = cb.treat(root, Feature.class);
+
+        List<Selection<?>> selections = new ArrayList<>(List.of(
+                root.get("id").alias("id"),
+                root.get("category").alias("category"),
+                root.get("name").alias("name"),
+                root.get("description").alias("description"),
+                root.get("status").alias("status"),
+                root.get("createdAt").alias("createdAt"),
+                root.get("changeSeq").alias("changeSeq"),
+                bug.get("stepsToReproduce").alias("stepsToReproduce"),
+                bug.get("severity").alias("severity"),
+                feature.get("businessValue").alias("businessValue"),
+                feature.get("deadline").alias("deadline"),
+                user.get("id").alias("userId"),
+                user.get("username").alias("username"),
+                user.get("fullName").alias("fullName")));
+        List<Order> orders = new ArrayList<>();
+        if (rankText != null) {
+            Expression<Long> rank = TaskTextSearchFunctions.rank(cb, root, rankText);
+            selections.add(rank.alias("rank"));
+            orders.add(cb.desc(rank));
+        }
+        orders.addAll(QueryUtils.toOrders(sort, root, cb));
+        query.multiselect(selections);
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(tuple -> new TaskRow(toTask(tuple), tuple.get("createdAt", LocalDateTime.class),
+                        rankText == null ? null : tuple.get("rank", Long.class), tuple.get("changeSeq", Long.class)))
+                .toList();
+    }
+
+    private Task toTask(Tuple tuple) {
+        Long userId = tuple.get("userId", Long.class);
+        User user = userId == null ? null
+                : new User(userId, tuple.get("username", String.class), tuple.get("fullName", String.class));
+        TaskCategory category = tuple.get("category", TaskCategory.class);
+
+        return switch (category) {
+            case BUG -> new BugTask(
+                    tuple.get("id", Long.class),
+                    tuple.get("name", String.class),
+                    tuple.get("description", String.class),
+                    tuple.get("status", TaskStatus.class),
+                    tuple.get("stepsToReproduce", String.class),
+                    tuple.get("severity", BugSeverity.class),
+                    user);
+            case FEATURE -> new FeatureTask(
+                    tuple.get("id", Long.class),
+                    tuple.get("name", String.class),
+                    tuple.get("description", String.class),
+                    tuple.get("status", TaskStatus.class),
+                    tuple.get("businessValue", String.class),
+                    tuple.get("deadline", LocalDate.class),
+                    user);
+            default -> throw new IllegalArgumentException("Unknown task category: " + category);
+        };
+    }
+}
@@ -1,5 +1,9 @@
 package com.jumpsoft.taskmanagement.repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -11,20 +15,50 @@ import com.jumpsoft.taskmanagement.entity.Task;
 import com.jumpsoft.taskmanagement.entity.User;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskStreamRepository,
+        TaskProjectionRepository, TaskBulkRepository
 {
     // This interface will automatically provide CRUD operations and support for JPA specifications.
     // Additional custom query methods can be defined here if needed.
 
     /**
+     * Reassigns all tasks of a user in one statement, incrementing their versions.
+     * Hibernate evicts the whole task cache region after a bulk update, managed tasks are cleared
+     * from the persistence context so they are not served with the old user either.
+     *
+     * @param oldUserId ID of the currently assigned user.
+     * @param newUserId ID of the newly assigned user, or null to unassign the tasks.
+     * @param changeSeq The pending change sequence of the transaction.
+     * @return The number of updated tasks.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.user.id = :newUserId, t.version = t.version + 1, t.changeSeq = :changeSeq"
+            + " WHERE t.user.id = :oldUserId")
+    int updateUserIdInTasks(@Param("oldUserId") Long oldUserId, @Param("newUserId") Long newUserId,
+                            @Param("changeSeq") long changeSeq);
+
+    /**
+     * Reads the IDs of the next tasks of a user, so they can be changed in bounded chunks.
+     *
+     * @param userId ID of the assigned user.
+     * @param limit  Maximum number of IDs to return.
+     * @return IDs of the tasks assigned to the user in ascending order.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.user.id = :userId ORDER BY t.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * Unassigns the tasks with the IDs which are still assigned to the user, incrementing their versions.
      *
-     * @param oldUserId
-     * @param newUserId
-     * @return
+     * @param userId    ID of the currently assigned user.
+     * @param ids       IDs of the tasks.
+     * @param changeSeq The pending change sequence of the transaction.
+     * @return The number of unassigned tasks.
      */
-    @Modifying
-    @Query("UPDATE Task t SET t.user.id = :newUserId WHERE t.user.id = :oldUserId")
-    int updateUserIdInTasks(@Param("oldUserId") Long oldUserId, @Param("newUserId") Long newUserId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.user = null, t.version = t.version + 1, t.changeSeq = :changeSeq"
+            + " WHERE t.id IN :ids AND t.user.id = :userId")
+    int unassignTasks(@Param("userId") Long userId, @Param("ids") Collection<Long> ids, @Param("changeSeq") long changeSeq);
 
 
 }
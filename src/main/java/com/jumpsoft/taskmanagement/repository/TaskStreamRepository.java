@@ -0,0 +1,25 @@
+package com.jumpsoft.taskmanagement.repository;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jumpsoft.taskmanagement.entity.Task;
+
+/**
+ * Repository fragment for reading large numbers of tasks without materializing them in memory.
+ */
+public interface TaskStreamRepository {
+
+    /**
+     * Streams the tasks matching the specification through a database cursor.
+     * The assigned users are fetched in the same query and every task is detached from the persistence
+     * context as it is read, so the stream must be consumed and closed within a transaction.
+     *
+     * @param spec The specification the tasks have to match, or null to stream all tasks.
+     * @param sort The order of the streamed tasks.
+     * @return Stream of detached tasks.
+     */
+    Stream<Task> streamAll(Specification<Task> spec, Sort sort);
+}
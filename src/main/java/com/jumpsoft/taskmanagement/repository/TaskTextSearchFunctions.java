@@ -0,0 +1,114 @@
+package com.jumpsoft.taskmanagement.repository;
+
+import java.util.List;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.ReturnableType;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionArgumentTypeResolvers;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+import com.jumpsoft.taskmanagement.entity.Task;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Registers the SQL functions of the task text search over name, description and reproduce steps.
+ * On PostgreSQL they use the search_vector column and its GIN index (db/vendor/postgresql/V1_010),
+ * on other databases, i.e. H2 of the test profile, they fall back to case-insensitive substring matching.
+ * Registered in META-INF/services, Hibernate loads it when building the session factory.
+ */
+public class TaskTextSearchFunctions implements FunctionContributor {
+
+    /**
+     * Boolean function {@code task_text_matches(task.id, text)}.
+     */
+    public static final String MATCHES = "task_text_matches";
+
+    /**
+     * Function {@code task_text_rank(task.id, text)} returning the relevance of the task as a bigint, higher is better.
+     * The rank is an integer, so keyset pagination can compare it exactly.
+     */
+    public static final String RANK = "task_text_rank";
+
+    private static final String POSTGRESQL_QUERY = "websearch_to_tsquery('english', ?)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        boolean postgresql = functionContributions.getDialect() instanceof PostgreSQLDialect;
+
+        functionContributions.getFunctionRegistry().register(MATCHES, new TextSearchFunction(MATCHES,
+                types.resolve(StandardBasicTypes.BOOLEAN), postgresql
+                        ? "{t}search_vector @@ " + POSTGRESQL_QUERY
+                        : "(locate(lower(?), lower({t}name)) > 0 or locate(lower(?), lower({t}description)) > 0"
+                                + " or locate(lower(?), lower({t}steps_to_reproduce)) > 0)"));
+        // Name matches weigh the most, then description and reproduce steps, as the weights A, B and C of the vector
+        functionContributions.getFunctionRegistry().register(RANK, new TextSearchFunction(RANK,
+                types.resolve(StandardBasicTypes.LONG), postgresql
+                        ? "cast(ts_rank({t}search_vector, " + POSTGRESQL_QUERY + ") * 1000000 as bigint)"
+                        : "cast(case when locate(lower(?), lower({t}name)) > 0 then 4 else 0 end"
+                                + " + case when locate(lower(?), lower({t}description)) > 0 then 2 else 0 end"
+                                + " + case when locate(lower(?), lower({t}steps_to_reproduce)) > 0 then 1 else 0 end as bigint)"));
+    }
+
+    /**
+     * @return Predicate matching the tasks which contain the text.
+     */
+    public static Predicate matches(CriteriaBuilder cb, Path<Task> task, String text) {
+        return cb.isTrue(cb.function(MATCHES, Boolean.class, task.get("id"), ((HibernateCriteriaBuilder) cb).value(text)));
+    }
+
+    /**
+     * @return Relevance of the task for the text, only meaningful for tasks which match it.
+     */
+    public static jakarta.persistence.criteria.Expression<Long> rank(CriteriaBuilder cb, Path<Task> task, String text) {
+        return cb.function(RANK, Long.class, task.get("id"), ((HibernateCriteriaBuilder) cb).value(text));
+    }
+
+    /**
+     * Renders an SQL template in which {t} stands for the alias of the tasks table and every ? for the text.
+     * The first argument is a column of the tasks table and only supplies the alias,
+     * the search_vector column is not mapped, so that entity loads do not read it.
+     */
+    private static class TextSearchFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+
+        private final String[] template;
+
+        TextSearchFunction(String name, BasicType<?> type, String template) {
+            super(name, StandardArgumentsValidators.exactly(2), StandardFunctionReturnTypeResolvers.invariant(type),
+                    StandardFunctionArgumentTypeResolvers.NULL);
+            this.template = template.split("\\?", -1);
+        }
+
+        @Override
+        public void render(SqlAppender sqlAppender, List<? extends SqlAstNode> arguments, ReturnableType<?> returnType,
+                           SqlAstTranslator<?> walker) {
+            ColumnReference column = ((Expression) arguments.get(0)).getColumnReference();
+            if (column == null) {
+                throw new IllegalArgumentException(getName() + " expects a column of the tasks table as first argument");
+            }
+            String qualifier = column.getQualifier() == null ? "" : column.getQualifier() + ".";
+            for (int i = 0; i < template.length; i++) {
+                sqlAppender.appendSql(template[i].replace("{t}", qualifier));
+                if (i < template.length - 1) {
+                    arguments.get(1).accept(walker);
+                }
+            }
+        }
+    }
+}
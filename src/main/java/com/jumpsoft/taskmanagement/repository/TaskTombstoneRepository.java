@@ -0,0 +1,30 @@
+package com.jumpsoft.taskmanagement.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jumpsoft.taskmanagement.entity.TaskTombstone;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Reads the tombstones ordered after a position of the delta sync up to a change sequence.
+     * The redundant bound on the change sequence lets the database range-scan the (change_seq, task_id) index.
+     *
+     * @param changeSeq     Change sequence of the position.
+     * @param taskId        ID of the last task returned at the position.
+     * @param lastChangeSeq Change sequence of the last read commit, inclusive.
+     * @param limit         Maximum number of tombstones to return.
+     * @return The tombstones ordered by change sequence and task ID.
+     */
+    @Query("SELECT t FROM TaskTombstone t WHERE t.changeSeq >= :changeSeq AND t.changeSeq <= :lastChangeSeq"
+            + " AND (t.changeSeq > :changeSeq OR t.taskId > :taskId) ORDER BY t.changeSeq, t.taskId")
+    List<TaskTombstone> findChangedAfter(@Param("changeSeq") long changeSeq, @Param("taskId") long taskId,
+                                         @Param("lastChangeSeq") long lastChangeSeq, Limit limit);
+}
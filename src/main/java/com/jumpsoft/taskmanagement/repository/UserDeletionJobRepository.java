@@ -0,0 +1,28 @@
+package com.jumpsoft.taskmanagement.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.jumpsoft.taskmanagement.entity.UserDeletionJob;
+import com.jumpsoft.taskmanagement.enums.UserDeletionStatus;
+
+@Repository
+public interface UserDeletionJobRepository extends JpaRepository<UserDeletionJob, Long> {
+
+    /**
+     * @param statuses The statuses of the jobs.
+     * @return The jobs in one of the statuses, in the order they were created.
+     */
+    List<UserDeletionJob> findByStatusInOrderByIdAsc(Collection<UserDeletionStatus> statuses);
+
+    /**
+     * @param userId The ID of the deleted user.
+     * @param status The status of the job.
+     * @return The latest job of the user in the status.
+     */
+    Optional<UserDeletionJob> findFirstByUserIdAndStatusOrderByIdDesc(Long userId, UserDeletionStatus status);
+}
@@ -1,8 +1,10 @@
 package com.jumpsoft.taskmanagement.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import com.jumpsoft.taskmanagement.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,4 +13,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // Custom query methods
     Optional<User> findByUsername(String username);
+
+    /**
+     * Keyset page query, reads the next users after the given ID using the primary key index.
+     * Users being deleted are skipped.
+     *
+     * @param id    ID of the last user of the previous page.
+     * @param limit Maximum number of users to return.
+     * @return Users with a greater ID in ascending ID order.
+     */
+    List<User> findByIdGreaterThanAndDeletingFalseOrderByIdAsc(Long id, Limit limit);
+
+    boolean existsByIdAndDeletingFalse(Long id);
 }
\ No newline at end of file
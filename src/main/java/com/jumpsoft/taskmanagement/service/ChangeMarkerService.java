@@ -0,0 +1,144 @@
+package com.jumpsoft.taskmanagement.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jumpsoft.taskmanagement.entity.TaskTombstone;
+import com.jumpsoft.taskmanagement.enums.ChangedResource;
+import com.jumpsoft.taskmanagement.repository.ChangeMarkerRepository;
+import com.jumpsoft.taskmanagement.repository.TaskRepository;
+import com.jumpsoft.taskmanagement.repository.TaskTombstoneRepository;
+
+/**
+ * Service maintaining the change markers of the task and user collections.
+ * A marker changes whenever a transaction changing its collection commits, so its version identifies
+ * the state of the collection and serves as the ETag of the list endpoints.
+ * The version of the task marker is also the change sequence of the delta sync. The marker row stays locked
+ * from its increment to the commit, so the sequences are stamped on the changed tasks in the order of the commits
+ * and a client which has read a sequence never misses a change committed with a lower one later.
+ */
+@Service
+public class ChangeMarkerService {
+
+    @Autowired
+    private ChangeMarkerRepository changeMarkerRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    /**
+     * Reads the current version of the collection.
+     *
+     * @param resource The collection.
+     * @return The version of the collection.
+     */
+    @Transactional(readOnly = true)
+    public long currentVersion(ChangedResource resource) {
+
+        return changeMarkerRepository.findVersion(resource);
+    }
+
+    /**
+     * Records that the current transaction changes the collections.
+     * The markers are incremented once per transaction right before the commit,
+     * so their rows stay locked only for the commit itself.
+     *
+     * @param resources The changed collections.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markChanged(ChangedResource... resources) {
+
+        pendingChanges().resources.addAll(Arrays.asList(resources));
+    }
+
+    /**
+     * Returns the change sequence the current transaction writes its tasks with. It is a negative placeholder,
+     * random so that concurrent transactions, also of other instances, never share it, and replaced with the
+     * version of the task marker right before the commit.
+     *
+     * @return The placeholder of the change sequence.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long pendingTaskChangeSeq() {
+
+        PendingChanges changes = pendingChanges();
+        changes.resources.add(ChangedResource.TASKS);
+        if (changes.taskChangeSeq == 0) {
+            changes.taskChangeSeq = -ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        }
+        return changes.taskChangeSeq;
+    }
+
+    /**
+     * Records that the current transaction deleted the tasks, their tombstones are written with the change
+     * sequence of the commit.
+     *
+     * @param taskIds The IDs of the deleted tasks.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markTasksDeleted(Collection<Long> taskIds) {
+
+        PendingChanges changes = pendingChanges();
+        changes.resources.add(ChangedResource.TASKS);
+        changes.deletedTaskIds.addAll(taskIds);
+    }
+
+    private PendingChanges pendingChanges() {
+        PendingChanges changes = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            PendingChanges pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    changeMarkerRepository.increment(pending.resources);
+                    if (pending.taskChangeSeq != 0 || !pending.deletedTaskIds.isEmpty()) {
+                        stampTaskChanges(pending);
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeMarkerService.this);
+                }
+            });
+            changes = pending;
+        }
+        return changes;
+    }
+
+    private void stampTaskChanges(PendingChanges pending) {
+        long changeSeq = changeMarkerRepository.findVersion(ChangedResource.TASKS);
+        if (pending.taskChangeSeq != 0) {
+            taskRepository.stampChangeSeq(pending.taskChangeSeq, changeSeq);
+        }
+        taskTombstoneRepository.saveAll(pending.deletedTaskIds.stream()
+                .map(taskId -> new TaskTombstone(taskId, changeSeq))
+                .toList());
+    }
+
+    /**
+     * Changes of the current transaction, applied right before its commit.
+     */
+    private static final class PendingChanges {
+
+        private final Set<ChangedResource> resources = EnumSet.noneOf(ChangedResource.class);
+        private final List<Long> deletedTaskIds = new ArrayList<>();
+        private long taskChangeSeq;
+    }
+}
@@ -0,0 +1,112 @@
+package com.jumpsoft.taskmanagement.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jumpsoft.taskmanagement.configuration.MetricsConfiguration;
+import com.jumpsoft.taskmanagement.configuration.TaskArchiveProperties;
+import com.jumpsoft.taskmanagement.dto.page.PageCursor;
+import com.jumpsoft.taskmanagement.dto.task.TaskEvent;
+import com.jumpsoft.taskmanagement.entity.Task;
+import com.jumpsoft.taskmanagement.enums.TaskSort;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.repository.TaskBulkRepository;
+import com.jumpsoft.taskmanagement.repository.TaskRepository;
+import com.jumpsoft.taskmanagement.util.TaskSpecification;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service moving old done tasks from the tasks to the archive, which keeps the tasks table and its indexes small.
+ * The tasks are moved in batches of {@link TaskArchiveProperties#batchSize()} tasks in the order of their IDs,
+ * each batch in its own short transaction which locks the tasks, copies them to the archive and deletes them.
+ * For the rest of the application an archived task is deleted: it leaves the task counts, the delta sync reports
+ * its tombstone and the change feed a bulk change. It can still be read by its ID and found by an archive search.
+ */
+@Service
+@Slf4j
+@Timed(MetricsConfiguration.SERVICE_TIMER)
+public class TaskArchiveService {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ChangeMarkerService changeMarkerService;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    @Autowired
+    private TaskEventService taskEventService;
+
+    @Autowired
+    private TaskArchiveProperties properties;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Archives the done tasks older than {@link TaskArchiveProperties#age()}, run on the schedule of
+     * {@link TaskArchiveProperties#cron()}.
+     */
+    @Scheduled(cron = "${task-management.task-archive.cron}")
+    public void archiveOldTasks() {
+
+        long archived = archiveTasks(LocalDateTime.now().minus(properties.age()));
+        log.info("Archived {} done tasks", archived);
+    }
+
+    /**
+     * Archives the done tasks created before the time. A failing batch leaves the previous batches archived.
+     *
+     * @param createdBefore The creation time the archived tasks have to be created before, exclusive.
+     * @return The number of archived tasks.
+     */
+    public long archiveTasks(LocalDateTime createdBefore) {
+
+        Specification<Task> spec = TaskSpecification.withStatus(TaskStatus.DONE)
+                .and(TaskSpecification.withCreatedAtBetween(null, createdBefore));
+        int batchSize = properties.batchSize();
+
+        long archived = 0;
+        Long lastId = null;
+        List<Long> batch;
+        do {
+            PageCursor after = lastId == null ? null : PageCursor.of(TaskSort.ID.name(), lastId, null);
+            batch = transactionTemplate.execute(status -> archiveBatch(
+                    spec.and(TaskSpecification.after(TaskSort.ID, after)), batchSize));
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1);
+                archived += batch.size();
+            }
+        } while (batch.size() == batchSize);
+        return archived;
+    }
+
+    /**
+     * Moves the next batch of tasks to the archive.
+     *
+     * @return The IDs of the batch in ascending order.
+     */
+    private List<Long> archiveBatch(Specification<Task> spec, int batchSize) {
+        List<Long> ids = taskRepository.findIdsForUpdate(spec, batchSize);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        taskRepository.archiveTasks(ids, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        List<TaskBulkRepository.DeletedTask> tasks = taskRepository.deleteTasks(ids);
+        changeMarkerService.markTasksDeleted(tasks.stream().map(TaskBulkRepository.DeletedTask::id).toList());
+        taskStatisticsService.countDeleted(tasks);
+        taskEventService.publish(TaskEvent.bulkChanged(null, null, TaskStatus.DONE));
+        return ids;
+    }
+}
@@ -0,0 +1,202 @@
+package com.jumpsoft.taskmanagement.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.jumpsoft.taskmanagement.configuration.TaskEventProperties;
+import com.jumpsoft.taskmanagement.dto.task.TaskEvent;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service pushing task changes to the subscribers of the task change feed as server-sent events.
+ * Events are collected during a transaction and pushed only after it commits, a rolled back change is never seen.
+ * Every subscriber has a bounded buffer drained by its own virtual thread, so a slow client never delays a commit.
+ * A commit with more matching events than {@link TaskEventProperties#maxEventsPerCommit()} is pushed to a subscriber
+ * as one {@code BULK_CHANGED} event, like the set-based writes, so large batches do not fill the buffer.
+ * A subscriber whose buffer cannot take the events of a commit is sent a {@code DROPPED} event and disconnected,
+ * it has to reconnect and read the tasks again.
+ */
+@Service
+@Slf4j
+public class TaskEventService {
+
+    private static final Delivery DROPPED = new Delivery(0, null);
+
+    @Autowired
+    private TaskEventProperties properties;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong subscriberSequence = new AtomicLong();
+
+    private long sequence;
+
+    /**
+     * Subscribes to the changes of tasks. The stream is closed after {@link TaskEventProperties#timeout()}.
+     *
+     * @param userId The ID of the user whose tasks are watched, or null for every user.
+     * @param status The status of the watched tasks, or null for every status.
+     * @return The emitter of the events.
+     */
+    public SseEmitter subscribe(Long userId, TaskStatus status) {
+
+        Subscription subscription = new Subscription(userId, status, new SseEmitter(properties.timeout().toMillis()));
+        subscriptions.add(subscription);
+        subscription.start();
+        return subscription.emitter;
+    }
+
+    /**
+     * Records a change of the current transaction, it is pushed to the subscribers after the commit.
+     *
+     * @param event The change.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(TaskEvent event) {
+
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<TaskEvent> events = (List<TaskEvent>) TransactionSynchronizationManager.getResource(this);
+        if (events == null) {
+            List<TaskEvent> pending = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(pending);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskEventService.this);
+                }
+            });
+            events = pending;
+        }
+        events.add(event);
+    }
+
+    /**
+     * Numbers the events of a commit and hands them to every subscriber, synchronized so that
+     * every subscriber receives the commits in the order of their numbers.
+     */
+    private synchronized void broadcast(List<TaskEvent> events) {
+        List<Delivery> deliveries = new ArrayList<>(events.size());
+        for (TaskEvent event : events) {
+            deliveries.add(new Delivery(++sequence, event));
+        }
+        subscriptions.forEach(subscription -> subscription.offer(deliveries));
+    }
+
+    private record Delivery(long id, TaskEvent event) {
+    }
+
+    private final class Subscription {
+
+        private final Long userId;
+        private final TaskStatus status;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Delivery> queue;
+        private final Thread sender;
+        private boolean dropped;
+
+        private Subscription(Long userId, TaskStatus status, SseEmitter emitter) {
+            this.userId = userId;
+            this.status = status;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(properties.bufferSize());
+            this.sender = Thread.ofVirtual()
+                    .name("task-events-" + subscriberSequence.incrementAndGet())
+                    .unstarted(this::send);
+            emitter.onCompletion(this::close);
+            emitter.onError(error -> close());
+            emitter.onTimeout(emitter::complete);
+        }
+
+        private void start() {
+            sender.start();
+        }
+
+        /**
+         * Queues the matching events of one commit, all of them or none.
+         */
+        private synchronized void offer(List<Delivery> deliveries) {
+            if (dropped) {
+                return;
+            }
+            List<Delivery> matching = deliveries.stream()
+                    .filter(delivery -> delivery.event().matches(userId, status))
+                    .toList();
+            if (matching.isEmpty()) {
+                return;
+            }
+            if (matching.size() > properties.maxEventsPerCommit()) {
+                // The last number of the commit, so the numbers of a subscriber still increase
+                matching = List.of(new Delivery(matching.get(matching.size() - 1).id(),
+                        TaskEvent.bulkChanged(null, null, null)));
+            }
+            if (queue.remainingCapacity() < matching.size()) {
+                log.info("Dropping task event subscriber {} with {} events waiting", sender.getName(), queue.size());
+                dropped = true;
+                subscriptions.remove(this);
+                queue.clear();
+                queue.add(DROPPED);
+                return;
+            }
+            queue.addAll(matching);
+        }
+
+        private void send() {
+            long heartbeat = properties.heartbeatInterval().toMillis();
+            try {
+                while (true) {
+                    Delivery delivery = queue.poll(heartbeat, TimeUnit.MILLISECONDS);
+                    if (delivery == null) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else if (delivery == DROPPED) {
+                        emitter.send(SseEmitter.event().name("DROPPED").data("Subscriber fell behind, reconnect"));
+                        emitter.complete();
+                        return;
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(delivery.id()))
+                                .name(delivery.event().type().name())
+                                .data(delivery.event(), MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // The client disconnected or the stream completed meanwhile
+                log.debug("Task event subscriber {} closed", sender.getName(), e);
+                subscriptions.remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+
+        private void close() {
+            subscriptions.remove(this);
+            sender.interrupt();
+        }
+    }
+}
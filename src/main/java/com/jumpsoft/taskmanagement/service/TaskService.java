@@ -2,39 +2,95 @@ package com.jumpsoft.taskmanagement.service;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.util.NullableUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.function.ThrowingConsumer;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.text.MessageFormat;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.jumpsoft.taskmanagement.configuration.MetricsConfiguration;
+import com.jumpsoft.taskmanagement.configuration.TaskDeletionProperties;
+import com.jumpsoft.taskmanagement.configuration.TaskImportProperties;
 import com.jumpsoft.taskmanagement.controller.CustomException;
 import com.jumpsoft.taskmanagement.dto.TaskFilter;
 import com.jumpsoft.taskmanagement.dto.error.ErrorCode;
+import com.jumpsoft.taskmanagement.dto.error.ResponseErrorItem;
+import com.jumpsoft.taskmanagement.dto.page.ChangeToken;
+import com.jumpsoft.taskmanagement.dto.page.CursorPage;
+import com.jumpsoft.taskmanagement.dto.page.PageCursor;
 import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
 import com.jumpsoft.taskmanagement.dto.task.FeatureTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.TaskBatchCreateResponse;
+import com.jumpsoft.taskmanagement.dto.task.TaskBatchItemError;
+import com.jumpsoft.taskmanagement.dto.task.TaskBulkDeleteResponse;
+import com.jumpsoft.taskmanagement.dto.task.TaskChanges;
 import com.jumpsoft.taskmanagement.dto.task.TaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.TaskImportResponse;
+import com.jumpsoft.taskmanagement.dto.task.TaskEvent;
 import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.task.TaskStatusUpdateRequest;
+import com.jumpsoft.taskmanagement.dto.task.TaskStatusUpdateResponse;
 import com.jumpsoft.taskmanagement.dto.task.TaskUpdateRequest;
 import com.jumpsoft.taskmanagement.dto.task.UpdateTaskInvalidArguments;
+import com.jumpsoft.taskmanagement.dto.task.VersionedTask;
+import com.jumpsoft.taskmanagement.enums.ChangedResource;
 import com.jumpsoft.taskmanagement.enums.TaskCategory;
+import com.jumpsoft.taskmanagement.enums.TaskImportFormat;
+import com.jumpsoft.taskmanagement.enums.TaskSort;
 import com.jumpsoft.taskmanagement.enums.TaskStatus;
 import com.jumpsoft.taskmanagement.mapper.TaskMapper;
+import com.jumpsoft.taskmanagement.entity.ArchivedTask;
 import com.jumpsoft.taskmanagement.entity.Bug;
 import com.jumpsoft.taskmanagement.entity.Feature;
+import com.jumpsoft.taskmanagement.entity.TaskCount;
+import com.jumpsoft.taskmanagement.entity.TaskTombstone;
 import com.jumpsoft.taskmanagement.entity.User;
+import com.jumpsoft.taskmanagement.repository.ArchivedTaskRepository;
+import com.jumpsoft.taskmanagement.repository.TaskBulkRepository;
+import com.jumpsoft.taskmanagement.repository.TaskProjectionRepository;
 import com.jumpsoft.taskmanagement.repository.TaskRepository;
+import com.jumpsoft.taskmanagement.repository.TaskTombstoneRepository;
 import com.jumpsoft.taskmanagement.repository.UserRepository;
+import com.jumpsoft.taskmanagement.util.ArchivedTaskSpecification;
 import com.jumpsoft.taskmanagement.util.TaskSpecification;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 /**
  * Service class responsible for managing tasks. Provides methods
@@ -42,20 +98,68 @@ import jakarta.persistence.EntityNotFoundException;
  * creating, updating, and deleting tasks.
  */
 @Service
+@Timed(MetricsConfiguration.SERVICE_TIMER)
 public class TaskService {
 
+    /**
+     * Maximum number of tasks created by one batch request.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Maximum number of rejected rows reported by an import, all rejected rows are counted.
+     */
+    public static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE)
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .build();
+
     @Autowired
     private TaskRepository taskRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
     @Autowired
     private TaskMapper taskMapper;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ChangeMarkerService changeMarkerService;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    @Autowired
+    private TaskEventService taskEventService;
+
+    @Autowired
+    private TaskDeletionProperties taskDeletionProperties;
+
+    @Autowired
+    private TaskImportProperties taskImportProperties;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
 
     /**
      * Retrieves a task by its ID and converts it to a DTO representation.
+     * The task and its user are looked up by primary key, so both are served from the second-level cache when present.
+     * Tasks which are not found are looked up in the archive.
      *
      * @param id The unique identifier of the task to retrieve.
      * @return An Optional containing the task DTO if found, or an empty Optional otherwise.
@@ -63,39 +167,171 @@ public class TaskService {
     @Transactional(readOnly = true)
     public Optional<Task> findTaskById(Long id) {
 
-        return taskRepository.findById(id).map(this::mapToDTO);
+        return taskRepository.findById(id).map(this::mapToDTO)
+                .or(() -> archivedTaskRepository.findById(id).map(this::mapToDTO));
     }
 
     /**
-     * Retrieves all tasks from the repository and converts them to DTO representations.
+     * Retrieves the version tag of a task, which changes whenever the task or its assigned user is updated.
+     * Neither the task nor the user is mapped, both are usually served from the second-level cache.
+     * Tasks which are not found are looked up in the archive, archived tasks keep the version they were archived with.
      *
-     * @return A list of all task DTOs.
+     * @param id The unique identifier of the task.
+     * @return An Optional containing the version tag if the task is found, or an empty Optional otherwise.
      */
     @Transactional(readOnly = true)
-    public List<Task> findAllTasks() {
-        return taskRepository.findAll()
-                .stream().map(this::mapToDTO).toList();
+    public Optional<String> findTaskVersionTag(Long id) {
+
+        return taskRepository.findById(id).map(task -> versionTagOf(task.getVersion(), task.getUser()))
+                .or(() -> archivedTaskRepository.findById(id).map(task -> versionTagOf(task.getVersion(), task.getUser())));
+    }
+
+    /**
+     * Retrieves the version of the whole task collection, which changes whenever any task is created, updated or deleted.
+     *
+     * @return The version of the task collection.
+     */
+    public long findTasksVersion() {
+
+        return changeMarkerService.currentVersion(ChangedResource.TASKS);
+    }
+
+    /**
+     * Retrieves one page of tasks and converts them to DTO representations.
+     *
+     * @param sort   The ordering the page is keyed on.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param size   The requested page size, bounded by {@link CursorPage#MAX_SIZE}.
+     * @return The page of task DTOs with the cursor of the next page.
+     * @throws CustomException If the cursor is not valid for the requested ordering or the tasks are ordered by relevance.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Task> findAllTasks(TaskSort sort, String cursor, Integer size) throws CustomException {
+        return findTaskPage(null, sort, null, cursor, size);
     }
 
 
     /**
-     * Searches for tasks based on a filter that supports user ID and status.
+     * Searches for one page of tasks based on a filter that supports user ID and status.
+     * When the filter asks for archived tasks, the archive is searched instead of the current tasks.
      *
      * @param filter The filter criteria to apply, containing user ID and/or status.
-     * @return A list of task DTOs that match the filter criteria.
-     * @throws CustomException If the user with the specified ID does not exist.
+     * @param sort   The ordering the page is keyed on, or null to order by relevance when the filter has a text
+     *               and by ID otherwise.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param size   The requested page size, bounded by {@link CursorPage#MAX_SIZE}.
+     * @return The page of task DTOs that match the filter criteria.
+     * @throws CustomException If the user with the specified ID does not exist, the cursor is not valid
+     *                         or the tasks are ordered by relevance without a text or in the archive.
      */
     @Transactional(readOnly = true)
-    public List<Task> searchTasks(TaskFilter filter) throws CustomException {
-        if (filter.getUserId() != null && !userRepository.existsById(filter.getUserId())) {
+    public CursorPage<Task> searchTasks(TaskFilter filter, TaskSort sort, String cursor, Integer size) throws CustomException {
+        validateUser(filter);
+        if (Boolean.TRUE.equals(filter.getArchived())) {
+            return findArchivedTaskPage(ArchivedTaskSpecification.of(filter), sort != null ? sort : TaskSort.ID, cursor, size);
+        }
+        TaskSort order = sort != null ? sort : filter.getText() != null ? TaskSort.RELEVANCE : TaskSort.ID;
+        return findTaskPage(createFilterSpecification(filter), order, filter.getText(), cursor, size);
+    }
+
+    /**
+     * Retrieves the tasks changed and deleted since the position of a client in the delta sync, at most
+     * {@code size} changes in the order they were committed. The changed tasks and the tombstones are read
+     * with one range scan of their change sequence index each. Both reads stop at the version of the task marker
+     * read before them: every commit up to it is visible to both, while a commit between the two reads is visible
+     * only to the second and would move the token past changes the first one did not see.
+     *
+     * @param since The token returned by the previous sync, or null for a full sync, which returns no deletions.
+     * @param size  The maximum number of changes, bounded by {@link CursorPage#MAX_SIZE}.
+     * @return The changes with the token of the next sync.
+     * @throws CustomException If the token is malformed.
+     */
+    @Transactional(readOnly = true)
+    public TaskChanges findTaskChanges(String since, Integer size) throws CustomException {
+        ChangeToken after = ChangeToken.decode(since);
+        int limit = CursorPage.boundedSize(size);
+        long lastChangeSeq = changeMarkerService.currentVersion(ChangedResource.TASKS);
+        List<TaskProjectionRepository.TaskRow> rows = taskRepository.findRows(
+                TaskSpecification.changedAfter(after, lastChangeSeq), Sort.by("changeSeq", "id"), limit + 1);
+        List<TaskTombstone> tombstones = after.equals(ChangeToken.START) ? List.of()
+                : taskTombstoneRepository.findChangedAfter(after.changeSeq(), after.id(), lastChangeSeq, Limit.of(limit + 1));
+
+        List<Task> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        ChangeToken last = after;
+        int row = 0;
+        int tombstone = 0;
+        while (changed.size() + deleted.size() < limit && (row < rows.size() || tombstone < tombstones.size())) {
+            TaskProjectionRepository.TaskRow nextRow = row < rows.size() ? rows.get(row) : null;
+            TaskTombstone nextTombstone = tombstone < tombstones.size() ? tombstones.get(tombstone) : null;
+            if (nextTombstone == null || nextRow != null && (nextRow.changeSeq() < nextTombstone.getChangeSeq()
+                    || nextRow.changeSeq() == nextTombstone.getChangeSeq() && nextRow.task().getId() < nextTombstone.getTaskId())) {
+                changed.add(nextRow.task());
+                last = new ChangeToken(nextRow.changeSeq(), nextRow.task().getId());
+                row++;
+            } else {
+                deleted.add(nextTombstone.getTaskId());
+                last = new ChangeToken(nextTombstone.getChangeSeq(), nextTombstone.getTaskId());
+                tombstone++;
+            }
+        }
+        return new TaskChanges(changed, deleted, last.encode(), row < rows.size() || tombstone < tombstones.size());
+    }
+
+    /**
+     * Checks that the filter selects current tasks and that the user referenced by the filter exists.
+     *
+     * @param filter The filter criteria to check.
+     * @throws CustomException If the filter asks for archived tasks or the user with the specified ID does not exist.
+     */
+    @Transactional(readOnly = true)
+    public void validateFilter(TaskFilter filter) throws CustomException {
+        if (Boolean.TRUE.equals(filter.getArchived())) {
+            throw new CustomException(ErrorCode.ARCHIVED_TASKS_READ_ONLY);
+        }
+        validateUser(filter);
+    }
+
+    private void validateUser(TaskFilter filter) throws CustomException {
+        if (filter.getUserId() != null && !userRepository.existsByIdAndDeletingFalse(filter.getUserId())) {
             throw new CustomException(ErrorCode.USER_WITH_ID_NOT_FOUND, String.valueOf(filter.getUserId()));
         }
-        List<com.jumpsoft.taskmanagement.entity.Task> tasks = taskRepository.findAll(createStatusAndUserSpecification(filter.getStatus(), filter.getUserId()));
-        return tasks.stream()
-                .map(this::mapToDTO)
-                .toList();
     }
 
+    /**
+     * Writes the tasks matching the filter to the output stream as newline delimited JSON, ordered by ID.
+     * Tasks are read through a database cursor and written as they arrive, so memory use does not depend
+     * on the number of exported tasks.
+     *
+     * @param filter       The filter criteria to apply, or null to export all tasks.
+     * @param outputStream The stream the tasks are written to.
+     * @throws IOException If writing to the output stream fails.
+     */
+    @Transactional(readOnly = true)
+    public void exportTasks(TaskFilter filter, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(Task.class);
+        Specification<com.jumpsoft.taskmanagement.entity.Task> spec = filter == null
+                ? null : createFilterSpecification(filter);
+
+        try (Stream<com.jumpsoft.taskmanagement.entity.Task> tasks = taskRepository.streamAll(spec, TaskSort.ID.getSort())) {
+            Iterator<com.jumpsoft.taskmanagement.entity.Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                outputStream.write(writer.writeValueAsBytes(mapToDTO(iterator.next())));
+                outputStream.write('\n');
+            }
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * Determines the category of a task which is about to be updated. The transaction is not read-only,
+     * so the task is read from the primary like by the update, not from a replica which may lag behind.
+     *
+     * @param taskId The unique identifier of the task.
+     * @return The category of the task.
+     * @throws EntityNotFoundException If the task with the given ID does not exist.
+     */
+    @Transactional
     public TaskCategory determineTaskCategory(Long taskId) throws EntityNotFoundException {
         com.jumpsoft.taskmanagement.entity.Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + taskId));
@@ -114,27 +350,119 @@ public class TaskService {
     @Transactional
     public Task createTask(TaskCreateRequest taskRequest) throws CustomException {
 
-        com.jumpsoft.taskmanagement.entity.Task task;
-        User assignedUser = userRepository.findById(taskRequest.getUserId()).orElseThrow(() ->
+        User assignedUser = findAssignableUser(taskRequest.getUserId()).orElseThrow(() ->
                 new CustomException(ErrorCode.USER_WITH_ID_NOT_FOUND, taskRequest.getUserId().toString())
         );
 
-        switch (taskRequest.getCategory()) {
-            case BUG:
-                BugTaskCreateRequest bugRequest = (BugTaskCreateRequest) taskRequest;
-                task = taskMapper.toBugEntity(bugRequest);
-                break;
-            case FEATURE:
-                FeatureTaskCreateRequest featureRequest = (FeatureTaskCreateRequest) taskRequest;
-                task = taskMapper.toFeatureEntity(featureRequest);
-                break;
-            default:
-                throw new IllegalArgumentException("Unknown task category: " + taskRequest.getCategory());
-        }
-        task.setCreatedAt(LocalDateTime.now());
+        com.jumpsoft.taskmanagement.entity.Task task = toEntity(taskRequest);
+        task.setCreatedAt(currentTimestamp());
         task.setUser(assignedUser);
+        task.setChangeSeq(changeMarkerService.pendingTaskChangeSeq());
         com.jumpsoft.taskmanagement.entity.Task savedTask = taskRepository.save(task);
-        return mapToDTO(savedTask);
+        changeMarkerService.markChanged(ChangedResource.TASKS);
+        taskStatisticsService.countCreated(savedTask);
+        Task created = mapToDTO(savedTask);
+        taskEventService.publish(TaskEvent.created(created));
+        return created;
+    }
+
+    /**
+     * Creates multiple tasks in one transaction. Every task is validated on its own and the invalid ones
+     * are reported instead of failing the whole batch. Assigned users are loaded with a single query
+     * and the inserts are sent to the database in JDBC batches.
+     *
+     * @param taskRequests The tasks to create, at most {@link #MAX_BATCH_SIZE}.
+     * @return The created tasks and the rejected ones with the reasons of the rejection.
+     * @throws CustomException If the batch contains too many tasks.
+     */
+    @Transactional
+    public TaskBatchCreateResponse createTasks(List<TaskCreateRequest> taskRequests) throws CustomException {
+        if (taskRequests.size() > MAX_BATCH_SIZE) {
+            throw new CustomException(ErrorCode.BATCH_TOO_LARGE, String.valueOf(MAX_BATCH_SIZE));
+        }
+
+        List<TaskBatchItemError> rejected = new ArrayList<>();
+        Map<Integer, TaskCreateRequest> validRequests = new LinkedHashMap<>();
+        for (int index = 0; index < taskRequests.size(); index++) {
+            TaskBatchItemError error = validateBatchItem(index, taskRequests.get(index));
+            if (error != null) {
+                rejected.add(error);
+            } else {
+                validRequests.put(index, taskRequests.get(index));
+            }
+        }
+
+        Map<Integer, com.jumpsoft.taskmanagement.entity.Task> tasks = toBatchEntities(validRequests, rejected);
+        tasks.values().forEach(taskStatisticsService::countCreated);
+        rejected.sort(Comparator.comparingInt(TaskBatchItemError::index));
+        if (!tasks.isEmpty()) {
+            changeMarkerService.markChanged(ChangedResource.TASKS);
+        }
+
+        List<Task> created = taskRepository.saveAll(tasks.values()).stream().map(this::mapToDTO).toList();
+        created.forEach(task -> taskEventService.publish(TaskEvent.created(task)));
+        return new TaskBatchCreateResponse(created, rejected);
+    }
+
+    /**
+     * Imports tasks from a CSV or NDJSON file, reading it as a stream. Every row is validated like a task of
+     * {@link #createTasks(List)} and the invalid ones are reported instead of failing the import. The valid tasks are
+     * written in batches of {@link TaskImportProperties#batchSize()} tasks, each in its own transaction, so memory use
+     * does not depend on the size of the file. Batches written before a failure stay imported, a malformed file is
+     * imported up to the error and the rest is reported as not read.
+     *
+     * @param input  The file.
+     * @param format The format of the file.
+     * @return The number of imported tasks and the first {@link #MAX_REPORTED_REJECTIONS} rejected rows.
+     * @throws IOException If reading the file fails.
+     */
+    public TaskImportResponse importTasks(InputStream input, TaskImportFormat format) throws IOException {
+        int batchSize = taskImportProperties.batchSize();
+        long imported = 0;
+        long rejectedCount = 0;
+        List<TaskBatchItemError> rejected = new ArrayList<>();
+
+        try (MappingIterator<JsonNode> rows = openImport(input, format)) {
+            int index = 0;
+            boolean full;
+            do {
+                Map<Integer, TaskCreateRequest> batch = new LinkedHashMap<>();
+                List<TaskBatchItemError> batchRejected = new ArrayList<>();
+                boolean malformed = false;
+                try {
+                    while (batch.size() < batchSize && rows.hasNextValue()) {
+                        JsonNode row = rows.nextValue();
+                        int rowIndex = index++;
+                        TaskCreateRequest taskRequest;
+                        try {
+                            taskRequest = toImportRequest(row, format);
+                        } catch (DatabindException e) {
+                            batchRejected.add(TaskBatchItemError.of(rowIndex, errorItem(ErrorCode.IMPORT_ROW_UNREADABLE, e.getOriginalMessage())));
+                            continue;
+                        }
+                        TaskBatchItemError error = validateBatchItem(rowIndex, taskRequest);
+                        if (error != null) {
+                            batchRejected.add(error);
+                        } else {
+                            batch.put(rowIndex, taskRequest);
+                        }
+                    }
+                } catch (JacksonException e) {
+                    // Reading the rows fails only on a broken file, its position is lost
+                    batchRejected.add(TaskBatchItemError.of(index, errorItem(ErrorCode.IMPORT_MALFORMED, e.getOriginalMessage())));
+                    malformed = true;
+                }
+                full = !malformed && batch.size() == batchSize;
+
+                if (!batch.isEmpty()) {
+                    imported += transactionTemplate.execute(status -> saveImportBatch(batch, batchRejected));
+                }
+                batchRejected.sort(Comparator.comparingInt(TaskBatchItemError::index));
+                rejectedCount += batchRejected.size();
+                batchRejected.stream().limit(MAX_REPORTED_REJECTIONS - rejected.size()).forEach(rejected::add);
+            } while (full);
+        }
+        return new TaskImportResponse(imported, rejectedCount, rejected);
     }
 
     /**     * Updates an existing task with the provided request data.
@@ -150,12 +478,41 @@ public class TaskService {
     @Transactional
     public Task updateTask(Long id, TaskUpdateRequest taskRequest, ThrowingConsumer<UpdateTaskInvalidArguments> invalidRequestTypeConsumer) throws EntityNotFoundException, CustomException, MethodArgumentNotValidException {
 
+        return updateTask(id, taskRequest, null, invalidRequestTypeConsumer).task();
+    }
+
+    /**
+     * Updates an existing task if it still has the version tag the client has read.
+     * Only the changed columns are written, in one UPDATE checking the version the task was read with,
+     * so an update made in the meantime by another request fails instead of being overwritten.
+     * The UPDATE is flushed before returning, so the returned version tag is the one the update wrote.
+     *
+     * @param id                  The unique identifier of the task to update.
+     * @param taskRequest         The data to update the task with, including category-specific fields.
+     * @param ifMatch             Value of the If-Match header, the quoted version tags the task may have or *, null for any.
+     * @param invalidRequestTypeConsumer Consumer to handle invalid arguments for specific task categories.
+     * @return The updated task converted into a DTO format, with its new version tag.
+     * @throws EntityNotFoundException If the task with the given ID does not exist.
+     * @throws CustomException          If the task has another version tag, the assigned user is not found
+     *                                  or if there are validation errors.
+     * @throws MethodArgumentNotValidException If the provided request data is invalid.
+     */
+    @Transactional
+    public VersionedTask updateTask(Long id, TaskUpdateRequest taskRequest, String ifMatch, ThrowingConsumer<UpdateTaskInvalidArguments> invalidRequestTypeConsumer) throws EntityNotFoundException, CustomException, MethodArgumentNotValidException {
+
         try {
-            return mapToDTO(taskRepository.findById(id).map(existingTask -> {
+            return taskRepository.findById(id).map(existingTask -> {
+                String versionTag = versionTagOf(existingTask.getVersion(), existingTask.getUser());
+                if (ifMatch != null && !matchesVersionTag(ifMatch, versionTag)) {
+                    throw new RuntimeException(new CustomException(ErrorCode.TASK_VERSION_MISMATCH, id.toString(), versionTag));
+                }
+                List<TaskCount.Key> countedIn = taskStatisticsService.keysOf(existingTask);
+                Long previousUserId = existingTask.getUser() == null ? null : existingTask.getUser().getId();
+                TaskStatus previousStatus = existingTask.getStatus();
                 //check userId and update user if necessary
                 User assignedUser;
                 if (taskRequest.userId() != null) {
-                    assignedUser = userRepository.findById(taskRequest.userId()).orElseThrow(() ->
+                    assignedUser = findAssignableUser(taskRequest.userId()).orElseThrow(() ->
                             new RuntimeException(new CustomException(ErrorCode.USER_WITH_ID_NOT_FOUND, taskRequest.userId().toString()))
                     );
                     if (existingTask.getUser() != null && !existingTask.getUser().getId().equals(taskRequest.userId())) {
@@ -223,8 +580,14 @@ public class TaskService {
                     default ->
                             throw new IllegalArgumentException("Unknown task category: " + existingTask.getCategory());
                 }
-                return taskRepository.save(existingTask);
-            }).orElseThrow(() -> new EntityNotFoundException("Task with id " + id + " not found")));
+                changeMarkerService.markChanged(ChangedResource.TASKS);
+                taskStatisticsService.countChanged(countedIn, existingTask);
+                existingTask.setChangeSeq(changeMarkerService.pendingTaskChangeSeq());
+                com.jumpsoft.taskmanagement.entity.Task saved = taskRepository.saveAndFlush(existingTask);
+                Task updated = mapToDTO(saved);
+                taskEventService.publish(TaskEvent.updated(previousUserId, previousStatus, updated));
+                return new VersionedTask(updated, versionTagOf(saved.getVersion(), saved.getUser()));
+            }).orElseThrow(() -> new EntityNotFoundException("Task with id " + id + " not found"));
         } catch (RuntimeException e) {
             switch (e.getCause()){
                 case CustomException customException -> {
@@ -233,7 +596,7 @@ public class TaskService {
                 case MethodArgumentNotValidException methodArgumentNotValidException -> {
                     throw methodArgumentNotValidException;
                 }
-                default -> {
+                case null, default -> {
                     throw e;
                 }
             }
@@ -241,22 +604,272 @@ public class TaskService {
 
     }
 
+    /**
+     * Moves the tasks selected by their IDs or by a filter to the status, without loading them.
+     * One UPDATE is executed for every other status the tasks can have, so the rows it reports
+     * are exactly the tasks leaving that status and the status counts stay correct.
+     * Tasks already in the status are not touched.
+     *
+     * @param request The new status and the IDs of the tasks, at most {@link #MAX_BATCH_SIZE}, or the filter.
+     * @return The number of tasks which changed their status.
+     * @throws CustomException If the tasks are selected both or neither way, there are too many IDs
+     *                         or the user of the filter does not exist.
+     */
+    @Transactional
+    public TaskStatusUpdateResponse updateTaskStatus(TaskStatusUpdateRequest request) throws CustomException {
+        if ((request.ids() == null) == (request.filter() == null)) {
+            throw new CustomException(ErrorCode.INVALID_STATUS_UPDATE_TARGET);
+        }
+        if (request.ids() != null && request.ids().size() > MAX_BATCH_SIZE) {
+            throw new CustomException(ErrorCode.BATCH_TOO_LARGE, String.valueOf(MAX_BATCH_SIZE));
+        }
+        if (request.ids() != null && request.ids().isEmpty()) {
+            return new TaskStatusUpdateResponse(0);
+        }
+        Specification<com.jumpsoft.taskmanagement.entity.Task> spec;
+        if (request.ids() != null) {
+            spec = TaskSpecification.withIdIn(request.ids());
+        } else {
+            validateFilter(request.filter());
+            spec = createFilterSpecification(request.filter());
+        }
+
+        TaskStatus filteredStatus = request.filter() == null ? null : request.filter().getStatus();
+        Long filteredUserId = request.filter() == null ? null : request.filter().getUserId();
+        int updated = 0;
+        for (TaskStatus from : TaskStatus.values()) {
+            if (from == request.status() || filteredStatus != null && from != filteredStatus) {
+                continue;
+            }
+            int moved = taskRepository.updateStatus(spec.and(TaskSpecification.withStatus(from)), request.status(),
+                    changeMarkerService.pendingTaskChangeSeq());
+            taskStatisticsService.countStatusChanged(from, request.status(), moved);
+            if (moved > 0) {
+                taskEventService.publish(TaskEvent.bulkChanged(filteredUserId, request.status(), from));
+            }
+            updated += moved;
+        }
+        if (updated > 0) {
+            changeMarkerService.markChanged(ChangedResource.TASKS);
+        }
+        return new TaskStatusUpdateResponse(updated);
+    }
+
     /**
      * Deletes a task from the system by its unique identifier.
+     * The task is not loaded, a single DELETE returns the columns the task is counted by
+     * and no returned row means the task does not exist.
      *
      * @param id The unique identifier of the task to delete.
      * @throws EntityNotFoundException If the task with the given ID does not exist.
      */
     @Transactional
     public void deleteTask(Long id) throws EntityNotFoundException {
-        // Check if task exists first
-        if (!taskRepository.existsById(id)) {
+        List<TaskBulkRepository.DeletedTask> deleted = taskRepository.deleteTasks(List.of(id));
+        if (deleted.isEmpty()) {
             throw new EntityNotFoundException("Task with id " + id + " not found");
         }
-        taskRepository.deleteById(id);
+        changeMarkerService.markTasksDeleted(List.of(id));
+        taskStatisticsService.countDeleted(deleted);
+        TaskBulkRepository.DeletedTask task = deleted.get(0);
+        taskEventService.publish(TaskEvent.deleted(task.id(), task.userId(), task.status()));
+    }
+
+    /**
+     * Deletes all tasks matching the filter, for example done tasks created before a date.
+     * The tasks are deleted in batches of {@link TaskDeletionProperties#batchSize()} tasks, each in its own
+     * transaction which locks the IDs of its batch and deletes them with one statement, so a large cleanup
+     * never holds many locks at once. A failing batch leaves the previous batches deleted.
+     *
+     * @param filter The filter criteria the deleted tasks have to match.
+     * @return The number of deleted tasks.
+     * @throws CustomException If the user with the specified ID does not exist.
+     */
+    public TaskBulkDeleteResponse deleteTasks(TaskFilter filter) throws CustomException {
+        validateFilter(filter);
+        Specification<com.jumpsoft.taskmanagement.entity.Task> spec = createFilterSpecification(filter);
+        int batchSize = taskDeletionProperties.batchSize();
+
+        long deleted = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> {
+                List<Long> ids = taskRepository.findIdsForUpdate(spec, batchSize);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                List<TaskBulkRepository.DeletedTask> tasks = taskRepository.deleteTasks(ids);
+                changeMarkerService.markTasksDeleted(tasks.stream().map(TaskBulkRepository.DeletedTask::id).toList());
+                taskStatisticsService.countDeleted(tasks);
+                taskEventService.publish(TaskEvent.bulkChanged(filter.getUserId(), null, filter.getStatus()));
+                return ids.size();
+            });
+            deleted += batch;
+        } while (batch == batchSize);
+        return new TaskBulkDeleteResponse(deleted);
+    }
+
+    /**
+     * Database timestamps keep microseconds, truncating keeps managed entities equal to the stored rows,
+     * which matters for cursors created from them.
+     */
+    private static LocalDateTime currentTimestamp() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private com.jumpsoft.taskmanagement.entity.Task toEntity(TaskCreateRequest taskRequest) {
+        return switch (taskRequest.getCategory()) {
+            case BUG -> taskMapper.toBugEntity((BugTaskCreateRequest) taskRequest);
+            case FEATURE -> taskMapper.toFeatureEntity((FeatureTaskCreateRequest) taskRequest);
+            default -> throw new IllegalArgumentException("Unknown task category: " + taskRequest.getCategory());
+        };
+    }
+
+    /**
+     * Validates a task of a batch or an import against the constraints of its create request.
+     *
+     * @return The rejection of the task, or null if the task is valid.
+     */
+    private TaskBatchItemError validateBatchItem(int index, TaskCreateRequest taskRequest) {
+        if (taskRequest == null) {
+            return TaskBatchItemError.of(index, ResponseErrorItem.of("NotNull", "Task must not be null"));
+        }
+        Set<ConstraintViolation<TaskCreateRequest>> violations = validator.validate(taskRequest);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return TaskBatchItemError.of(index, violations.stream()
+                .map(violation -> ResponseErrorItem.of(
+                        violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName(),
+                        violation.getMessage(), violation.getPropertyPath().toString()))
+                .toList());
     }
 
-    private Task mapToDTO(com.jumpsoft.taskmanagement.entity.Task task) {
+    /**
+     * Creates the entities of the valid tasks of a batch, the assigned users are loaded with a single query.
+     * Tasks whose user does not exist or is being deleted are rejected.
+     *
+     * @return The entities by the index of their task.
+     */
+    private Map<Integer, com.jumpsoft.taskmanagement.entity.Task> toBatchEntities(Map<Integer, TaskCreateRequest> validRequests,
+                                                                                 List<TaskBatchItemError> rejected) {
+        Set<Long> userIds = validRequests.values().stream().map(TaskCreateRequest::getUserId).collect(Collectors.toSet());
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .filter(user -> !user.isDeleting())
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        LocalDateTime createdAt = currentTimestamp();
+        Map<Integer, com.jumpsoft.taskmanagement.entity.Task> tasks = new LinkedHashMap<>();
+        validRequests.forEach((index, taskRequest) -> {
+            User assignedUser = users.get(taskRequest.getUserId());
+            if (assignedUser == null) {
+                rejected.add(userNotFound(index, taskRequest.getUserId()));
+                return;
+            }
+            com.jumpsoft.taskmanagement.entity.Task task = toEntity(taskRequest);
+            task.setCreatedAt(createdAt);
+            task.setChangeSeq(changeMarkerService.pendingTaskChangeSeq());
+            task.setUser(assignedUser);
+            tasks.put(index, task);
+        });
+        return tasks;
+    }
+
+    private static TaskBatchItemError userNotFound(int index, Long userId) {
+        return TaskBatchItemError.of(index, ResponseErrorItem.of(ErrorCode.USER_WITH_ID_NOT_FOUND.getCode(),
+                MessageFormat.format(ErrorCode.USER_WITH_ID_NOT_FOUND.getMessage(), userId.toString()), "userId"));
+    }
+
+    private static ResponseErrorItem errorItem(ErrorCode errorCode, String detail) {
+        return ResponseErrorItem.of(errorCode.getCode(), MessageFormat.format(errorCode.getMessage(), detail));
+    }
+
+    /**
+     * Writes one batch of an import and counts the written tasks, tasks whose user was deleted
+     * since the batch was validated are rejected.
+     *
+     * @return The number of imported tasks.
+     */
+    private int saveImportBatch(Map<Integer, TaskCreateRequest> batch, List<TaskBatchItemError> rejected) {
+        Map<Integer, com.jumpsoft.taskmanagement.entity.Task> tasks = toBatchEntities(batch, rejected);
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        Set<Long> inserted = taskRepository.importTasks(new ArrayList<>(tasks.values()));
+        tasks.forEach((index, task) -> {
+            if (inserted.contains(task.getId())) {
+                taskStatisticsService.countCreated(task);
+            } else {
+                rejected.add(userNotFound(index, task.getUser().getId()));
+            }
+        });
+        if (!inserted.isEmpty()) {
+            changeMarkerService.markChanged(ChangedResource.TASKS);
+            taskEventService.publish(TaskEvent.bulkChanged(null, null, null));
+        }
+        return inserted.size();
+    }
+
+    /**
+     * Opens the rows of an imported file as JSON trees, CSV rows become objects keyed by the header.
+     */
+    private MappingIterator<JsonNode> openImport(InputStream input, TaskImportFormat format) throws IOException {
+        return switch (format) {
+            case CSV -> CSV_MAPPER.readerFor(JsonNode.class).with(CsvSchema.emptySchema().withHeader()).readValues(input);
+            case NDJSON -> objectMapper.readerFor(JsonNode.class).readValues(input);
+        };
+    }
+
+    /**
+     * Reads a row of an imported file as a create request, empty CSV values are missing values.
+     */
+    private TaskCreateRequest toImportRequest(JsonNode row, TaskImportFormat format) throws JsonProcessingException {
+        if (format == TaskImportFormat.CSV) {
+            Iterator<Map.Entry<String, JsonNode>> fields = row.fields();
+            while (fields.hasNext()) {
+                if (fields.next().getValue().asText().isEmpty()) {
+                    fields.remove();
+                }
+            }
+        }
+        return objectMapper.treeToValue(row, TaskCreateRequest.class);
+    }
+
+    /**
+     * Looks up a user tasks can be assigned to, users being deleted are treated as not existing.
+     */
+    private Optional<User> findAssignableUser(Long userId) {
+        return userRepository.findById(userId).filter(user -> !user.isDeleting());
+    }
+
+    /**
+     * Version tag of a task, changed by every update of the task or of its assigned user.
+     */
+    private static String versionTagOf(Long version, User user) {
+        return user == null ? String.valueOf(version) : version + "-" + user.getVersion();
+    }
+
+    /**
+     * @return Whether the If-Match header lists the version tag or is *, weak tags never match.
+     */
+    private static boolean matchesVersionTag(String ifMatch, String versionTag) {
+        String quoted = "\"" + versionTag + "\"";
+        for (String tag : ifMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*") || trimmed.equals(quoted)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Maps a task entity to the DTO of its category, used for every task returned by the service.
+     *
+     * @param task The task entity, with its user loaded.
+     * @return The bug or feature DTO of the task.
+     */
+    public Task mapToDTO(com.jumpsoft.taskmanagement.entity.Task task) {
         return switch (task.getCategory()) {
             case BUG -> taskMapper.toBugDTO((Bug) task);
             case FEATURE -> taskMapper.toFeatureDTO((Feature) task);
@@ -264,16 +877,68 @@ public class TaskService {
         };
     }
 
-    private Specification<com.jumpsoft.taskmanagement.entity.Task> createStatusAndUserSpecification(TaskStatus status, Long userId) {
+    /**
+     * Maps an archived task to the DTO of its category.
+     *
+     * @param task The archived task, with its user loaded.
+     * @return The bug or feature DTO of the task.
+     */
+    private Task mapToDTO(ArchivedTask task) {
+        return switch (task.getCategory()) {
+            case BUG -> taskMapper.toBugDTO(task);
+            case FEATURE -> taskMapper.toFeatureDTO(task);
+        };
+    }
+
+    /**
+     * Reads one page of archived tasks, keyed on the ordering like the pages of current tasks.
+     * The archive has no search vector, so it cannot be ordered by relevance.
+     */
+    private CursorPage<Task> findArchivedTaskPage(Specification<ArchivedTask> spec, TaskSort sort, String cursor,
+                                                  Integer size) throws CustomException {
+        if (sort.isRanked()) {
+            throw new CustomException(ErrorCode.ARCHIVED_TASKS_NOT_RANKED);
+        }
+        int pageSize = CursorPage.boundedSize(size);
+        PageCursor after = PageCursor.decode(cursor, sort.name());
+        if (after != null && sort.isByCreatedAt() && after.createdAt() == null) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR, cursor);
+        }
+        List<ArchivedTask> tasks = archivedTaskRepository.findFirst(
+                spec.and(ArchivedTaskSpecification.after(sort, after)), sort.getSort(), pageSize + 1);
+        return CursorPage.of(tasks, pageSize, this::mapToDTO, task -> PageCursor.of(sort.name(), task.getId(),
+                sort.isByCreatedAt() ? task.getCreatedAt() : null));
+    }
 
-        Specification<com.jumpsoft.taskmanagement.entity.Task> spec = Specification.where(null);
-        if (status != null) {
-            spec = spec.and(TaskSpecification.withStatus(status));
+    private CursorPage<Task> findTaskPage(Specification<com.jumpsoft.taskmanagement.entity.Task> spec, TaskSort sort,
+                                          String text, String cursor, Integer size) throws CustomException {
+        if (sort.isRanked() && text == null) {
+            throw new CustomException(ErrorCode.RELEVANCE_WITHOUT_TEXT);
         }
-        if (userId != null) {
-            spec = spec.and(TaskSpecification.withUserId(userId));
+        int pageSize = CursorPage.boundedSize(size);
+        PageCursor after = PageCursor.decode(cursor, sort.name());
+        if (after != null && (sort.isByCreatedAt() && after.createdAt() == null || sort.isRanked() && after.rank() == null)) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR, cursor);
         }
-        return spec;
+        List<TaskProjectionRepository.TaskRow> rows = sort.isRanked()
+                ? taskRepository.findRankedRows(
+                        Specification.where(spec).and(TaskSpecification.afterRank(text, after)), text, pageSize + 1)
+                : taskRepository.findRows(
+                        Specification.where(spec).and(TaskSpecification.after(sort, after)), sort.getSort(), pageSize + 1);
+        return CursorPage.of(rows, pageSize, TaskProjectionRepository.TaskRow::task, row -> PageCursor.of(sort.name(),
+                row.task().getId(), sort.isByCreatedAt() ? row.createdAt() : null, row.rank()));
+    }
+
+    private Specification<com.jumpsoft.taskmanagement.entity.Task> createFilterSpecification(TaskFilter filter) {
+
+        return Specification.where(TaskSpecification.withStatus(filter.getStatus()))
+                .and(TaskSpecification.withUserId(filter.getUserId()))
+                .and(TaskSpecification.unassigned(filter.getUnassigned()))
+                .and(TaskSpecification.withCategory(filter.getCategory()))
+                .and(TaskSpecification.withSeverity(filter.getSeverity()))
+                .and(TaskSpecification.withDeadlineBetween(filter.getDeadlineFrom(), filter.getDeadlineTo()))
+                .and(TaskSpecification.withCreatedAtBetween(filter.getCreatedFrom(), filter.getCreatedTo()))
+                .and(TaskSpecification.matchesText(filter.getText()));
     }
 
 }
\ No newline at end of file
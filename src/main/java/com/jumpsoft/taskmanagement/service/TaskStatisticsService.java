@@ -0,0 +1,226 @@
+package com.jumpsoft.taskmanagement.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jumpsoft.taskmanagement.dto.task.TaskStatistics;
+import com.jumpsoft.taskmanagement.entity.Bug;
+import com.jumpsoft.taskmanagement.entity.Task;
+import com.jumpsoft.taskmanagement.entity.TaskCount;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskCategory;
+import com.jumpsoft.taskmanagement.enums.TaskCountDimension;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.repository.TaskBulkRepository;
+import com.jumpsoft.taskmanagement.repository.TaskCountRepository;
+
+/**
+ * Service maintaining the task counts behind the task statistics.
+ * Changes of the counts are collected during the transaction and applied right before the commit, one update
+ * per changed bucket in key order, so the frequently updated rows stay locked only for the commit itself
+ * and concurrent transactions lock them in the same order.
+ */
+@Service
+public class TaskStatisticsService {
+
+    @Autowired
+    private TaskCountRepository taskCountRepository;
+
+    /**
+     * Reads the task statistics from the task counts, without touching the tasks.
+     *
+     * @return The task statistics.
+     */
+    @Transactional(readOnly = true)
+    public TaskStatistics findStatistics() {
+
+        Map<TaskStatus, Long> byStatus = zeroCounts(TaskStatus.class);
+        Map<TaskCategory, Long> byCategory = zeroCounts(TaskCategory.class);
+        Map<BugSeverity, Long> bySeverity = zeroCounts(BugSeverity.class);
+        Map<Long, Long> byUser = new TreeMap<>();
+        long unassigned = 0;
+        for (TaskCount count : taskCountRepository.findNonEmpty()) {
+            switch (count.getDimension()) {
+                case STATUS -> byStatus.put(TaskStatus.valueOf(count.getBucket()), count.getTaskCount());
+                case CATEGORY -> byCategory.put(TaskCategory.valueOf(count.getBucket()), count.getTaskCount());
+                case SEVERITY -> bySeverity.put(BugSeverity.valueOf(count.getBucket()), count.getTaskCount());
+                case ASSIGNEE -> {
+                    if (TaskCount.UNASSIGNED.equals(count.getBucket())) {
+                        unassigned = count.getTaskCount();
+                    } else {
+                        byUser.put(Long.valueOf(count.getBucket()), count.getTaskCount());
+                    }
+                }
+            }
+        }
+        long total = byCategory.values().stream().mapToLong(Long::longValue).sum();
+        return new TaskStatistics(total, byStatus, byCategory, bySeverity, byUser, unassigned);
+    }
+
+    /**
+     * Creates the empty count of a new user, so tasks assigned to the user can be counted.
+     *
+     * @param userId The ID of the new user.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addUser(Long userId) {
+
+        taskCountRepository.save(new TaskCount(TaskCountDimension.ASSIGNEE, String.valueOf(userId), 0));
+    }
+
+    /**
+     * Records that the tasks of a deleted user became unassigned and removes the count of the user.
+     *
+     * @param userId    The ID of the deleted user.
+     * @param taskCount The number of tasks which were assigned to the user.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeUser(Long userId, int taskCount) {
+
+        taskCountRepository.deleteAssignee(String.valueOf(userId));
+        Map<TaskCount.Key, Long> pending = pendingDeltas();
+        pending.remove(new TaskCount.Key(TaskCountDimension.ASSIGNEE, String.valueOf(userId)));
+        pending.merge(new TaskCount.Key(TaskCountDimension.ASSIGNEE, TaskCount.UNASSIGNED), (long) taskCount, Long::sum);
+    }
+
+    /**
+     * Records that the current transaction unassigns tasks of a user which is being deleted.
+     *
+     * @param userId The ID of the user.
+     * @param count  The number of unassigned tasks.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void countUnassigned(Long userId, long count) {
+
+        Map<TaskCount.Key, Long> pending = pendingDeltas();
+        pending.merge(new TaskCount.Key(TaskCountDimension.ASSIGNEE, String.valueOf(userId)), -count, Long::sum);
+        pending.merge(new TaskCount.Key(TaskCountDimension.ASSIGNEE, TaskCount.UNASSIGNED), count, Long::sum);
+    }
+
+    /**
+     * Records that the current transaction creates the task.
+     *
+     * @param task The created task.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void countCreated(Task task) {
+
+        addAll(keysOf(task), 1);
+    }
+
+    /**
+     * Records that the current transaction changes the task.
+     *
+     * @param before The keys of the task before the change, as returned by {@link #keysOf(Task)}.
+     * @param task   The changed task.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void countChanged(List<TaskCount.Key> before, Task task) {
+
+        addAll(before, -1);
+        addAll(keysOf(task), 1);
+    }
+
+    /**
+     * Records that the current transaction moves tasks from one status to another without loading them.
+     *
+     * @param from  The status the tasks had.
+     * @param to    The new status of the tasks.
+     * @param count The number of moved tasks.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void countStatusChanged(TaskStatus from, TaskStatus to, long count) {
+
+        Map<TaskCount.Key, Long> pending = pendingDeltas();
+        pending.merge(new TaskCount.Key(TaskCountDimension.STATUS, from.name()), -count, Long::sum);
+        pending.merge(new TaskCount.Key(TaskCountDimension.STATUS, to.name()), count, Long::sum);
+    }
+
+    /**
+     * Records that the current transaction deletes the tasks.
+     *
+     * @param tasks The deleted tasks, as returned by the delete statement.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void countDeleted(Collection<TaskBulkRepository.DeletedTask> tasks) {
+
+        for (TaskBulkRepository.DeletedTask task : tasks) {
+            addAll(keysOf(task.status(), task.category(), task.severity(), task.userId()), -1);
+        }
+    }
+
+    /**
+     * Lists the buckets the task is counted in.
+     *
+     * @param task The task.
+     * @return The keys of the counts of the task.
+     */
+    public List<TaskCount.Key> keysOf(Task task) {
+
+        return keysOf(task.getStatus(), task.getCategory(), task instanceof Bug bug ? bug.getSeverity() : null,
+                task.getUser() == null ? null : task.getUser().getId());
+    }
+
+    private static List<TaskCount.Key> keysOf(TaskStatus status, TaskCategory category, BugSeverity severity,
+                                              Long userId) {
+        List<TaskCount.Key> keys = new ArrayList<>(4);
+        keys.add(new TaskCount.Key(TaskCountDimension.STATUS, status.name()));
+        keys.add(new TaskCount.Key(TaskCountDimension.CATEGORY, category.name()));
+        if (severity != null) {
+            keys.add(new TaskCount.Key(TaskCountDimension.SEVERITY, severity.name()));
+        }
+        keys.add(new TaskCount.Key(TaskCountDimension.ASSIGNEE,
+                userId == null ? TaskCount.UNASSIGNED : String.valueOf(userId)));
+        return keys;
+    }
+
+    private void addAll(List<TaskCount.Key> keys, long delta) {
+        Map<TaskCount.Key, Long> pending = pendingDeltas();
+        keys.forEach(key -> pending.merge(key, delta, Long::sum));
+    }
+
+    private Map<TaskCount.Key, Long> pendingDeltas() {
+        @SuppressWarnings("unchecked")
+        Map<TaskCount.Key, Long> deltas = (Map<TaskCount.Key, Long>) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            Map<TaskCount.Key, Long> pending = new TreeMap<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    pending.forEach((key, delta) -> {
+                        if (delta != 0) {
+                            taskCountRepository.add(key.getDimension(), key.getBucket(), delta);
+                        }
+                    });
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskStatisticsService.this);
+                }
+            });
+            deltas = pending;
+        }
+        return deltas;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zeroCounts(Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, 0L);
+        }
+        return counts;
+    }
+}
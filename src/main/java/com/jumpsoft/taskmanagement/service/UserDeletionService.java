@@ -0,0 +1,242 @@
+package com.jumpsoft.taskmanagement.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jumpsoft.taskmanagement.configuration.MetricsConfiguration;
+import com.jumpsoft.taskmanagement.configuration.UserDeletionProperties;
+import com.jumpsoft.taskmanagement.dto.task.TaskEvent;
+import com.jumpsoft.taskmanagement.dto.user.UserDeletionJob;
+import com.jumpsoft.taskmanagement.entity.User;
+import com.jumpsoft.taskmanagement.enums.ChangedResource;
+import com.jumpsoft.taskmanagement.enums.UserDeletionStatus;
+import com.jumpsoft.taskmanagement.mapper.UserMapper;
+import com.jumpsoft.taskmanagement.repository.TaskRepository;
+import com.jumpsoft.taskmanagement.repository.UserDeletionJobRepository;
+import com.jumpsoft.taskmanagement.repository.UserRepository;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service deleting users together with the assignments of their tasks.
+ * A user can have far more tasks than one transaction should lock, so the deletion is a job: the user is hidden
+ * at once, its tasks and then its archived tasks are unassigned in chunks of {@link UserDeletionProperties#chunkSize()}
+ * tasks, each in its own short transaction, and the user is removed at the end. The progress of the job is stored with every chunk,
+ * jobs interrupted by a shutdown continue after the next start. A failed job keeps the user hidden, it is retried
+ * after the next start or when the deletion of the user is requested again.
+ */
+@Service
+@Slf4j
+@Timed(MetricsConfiguration.SERVICE_TIMER)
+public class UserDeletionService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserDeletionJobRepository userDeletionJobRepository;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ChangeMarkerService changeMarkerService;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    @Autowired
+    private TaskEventService taskEventService;
+
+    @Autowired
+    private UserDeletionProperties properties;
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private AsyncTaskExecutor taskExecutor;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Starts the deletion of a user in the background. The user is hidden from reads and cannot be assigned
+     * to tasks once the current transaction commits, the job is started after the commit.
+     *
+     * @param userId The ID of the user to delete.
+     * @return The pending job, the failed job of the user if its deletion failed before.
+     * @throws EntityNotFoundException If the user does not exist or is already being deleted by an unfinished job.
+     */
+    @Transactional
+    public UserDeletionJob startDeletion(Long userId) throws EntityNotFoundException {
+
+        com.jumpsoft.taskmanagement.entity.UserDeletionJob job = createJob(userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                taskExecutor.execute(() -> runJob(job.getId()));
+            }
+        });
+        return userMapper.toDTO(job);
+    }
+
+    /**
+     * Retrieves a deletion job by its ID. Clients poll the job right after starting it, so the transaction
+     * is not read-only and the job is read from the primary, not from a replica which may not have it yet.
+     *
+     * @param jobId The ID of the job.
+     * @return An Optional containing the job if found, or an empty Optional otherwise.
+     */
+    @Transactional
+    public Optional<UserDeletionJob> findJobById(Long jobId) {
+
+        return userDeletionJobRepository.findById(jobId).map(userMapper::toDTO);
+    }
+
+    /**
+     * Continues the jobs which did not finish before the last shutdown and retries the failed jobs.
+     * Chunks committed before are not repeated, the job just finds fewer tasks left to unassign.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+
+        List<com.jumpsoft.taskmanagement.entity.UserDeletionJob> unfinished = userDeletionJobRepository
+                .findByStatusInOrderByIdAsc(EnumSet.of(UserDeletionStatus.PENDING, UserDeletionStatus.RUNNING,
+                        UserDeletionStatus.FAILED));
+        for (com.jumpsoft.taskmanagement.entity.UserDeletionJob job : unfinished) {
+            log.info("Resuming deletion job {} of user {}", job.getId(), job.getUserId());
+            taskExecutor.execute(() -> runJob(job.getId()));
+        }
+    }
+
+    private com.jumpsoft.taskmanagement.entity.UserDeletionJob createJob(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("User with id " + userId + " not found"));
+        if (user.isDeleting()) {
+            // The user stays hidden after a failed job, a new request restarts the job instead of a new one
+            return userDeletionJobRepository.findFirstByUserIdAndStatusOrderByIdDesc(userId, UserDeletionStatus.FAILED)
+                    .map(job -> updateJob(job.getId(), 0, UserDeletionStatus.PENDING))
+                    .orElseThrow(() -> new EntityNotFoundException("User with id " + userId + " not found"));
+        }
+        user.setDeleting(true);
+        // Tasks embed their user, a hidden user must not be served from cached task collections either
+        changeMarkerService.markChanged(ChangedResource.USERS, ChangedResource.TASKS);
+
+        com.jumpsoft.taskmanagement.entity.UserDeletionJob job = new com.jumpsoft.taskmanagement.entity.UserDeletionJob();
+        job.setUserId(userId);
+        job.setStatus(UserDeletionStatus.PENDING);
+        job.setCreatedAt(currentTimestamp());
+        return userDeletionJobRepository.save(job);
+    }
+
+    private UserDeletionJob runJob(Long jobId) {
+        try {
+            Long userId = transactionTemplate.execute(status -> updateJob(jobId, 0, UserDeletionStatus.RUNNING).getUserId());
+            int unassigned;
+            do {
+                unassigned = transactionTemplate.execute(status -> unassignChunk(jobId, userId));
+            } while (unassigned == properties.chunkSize());
+            do {
+                unassigned = transactionTemplate.execute(status -> unassignArchivedChunk(jobId, userId));
+            } while (unassigned == properties.chunkSize());
+            return transactionTemplate.execute(status -> removeUser(jobId, userId));
+        } catch (RuntimeException e) {
+            log.error("Deletion job {} failed", jobId, e);
+            return transactionTemplate.execute(status -> {
+                com.jumpsoft.taskmanagement.entity.UserDeletionJob job = updateJob(jobId, 0, UserDeletionStatus.FAILED);
+                job.setError(StringUtils.abbreviate(e.getMessage(), MAX_ERROR_LENGTH));
+                return userMapper.toDTO(job);
+            });
+        }
+    }
+
+    /**
+     * Unassigns the next chunk of tasks and stores the progress in the same transaction.
+     */
+    private int unassignChunk(Long jobId, Long userId) {
+        List<Long> taskIds = taskRepository.findIdsByUserId(userId, Limit.of(properties.chunkSize()));
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+        int unassigned = taskRepository.unassignTasks(userId, taskIds, changeMarkerService.pendingTaskChangeSeq());
+        taskStatisticsService.countUnassigned(userId, unassigned);
+        taskEventService.publish(TaskEvent.reassigned(userId));
+        changeMarkerService.markChanged(ChangedResource.TASKS);
+        updateJob(jobId, unassigned, UserDeletionStatus.RUNNING);
+        // Tasks assigned concurrently to the user are picked up by the last transaction
+        return taskIds.size();
+    }
+
+    /**
+     * Unassigns the next chunk of archived tasks. The archive holds most of the tasks, removing the user would
+     * otherwise unassign them all in its last transaction through the foreign key. Archived tasks are not counted
+     * in the statistics and have no events.
+     */
+    private int unassignArchivedChunk(Long jobId, Long userId) {
+        int unassigned = taskRepository.unassignArchivedTasks(userId, properties.chunkSize());
+        if (unassigned > 0) {
+            changeMarkerService.markChanged(ChangedResource.TASKS);
+            updateJob(jobId, unassigned, UserDeletionStatus.RUNNING);
+        }
+        return unassigned;
+    }
+
+    /**
+     * Removes the user together with the tasks which were assigned to it before it was hidden,
+     * but committed only after the last chunk. Tasks archived since the last chunk are unassigned by the
+     * foreign key of the archive.
+     */
+    private UserDeletionJob removeUser(Long jobId, Long userId) {
+        int unassigned = taskRepository.updateUserIdInTasks(userId, null, changeMarkerService.pendingTaskChangeSeq());
+        userRepository.deleteById(userId);
+        changeMarkerService.markChanged(ChangedResource.USERS, ChangedResource.TASKS);
+        taskStatisticsService.removeUser(userId, unassigned);
+        if (unassigned > 0) {
+            taskEventService.publish(TaskEvent.reassigned(userId));
+        }
+        com.jumpsoft.taskmanagement.entity.UserDeletionJob job = updateJob(jobId, unassigned, UserDeletionStatus.COMPLETED);
+        return userMapper.toDTO(job);
+    }
+
+    private com.jumpsoft.taskmanagement.entity.UserDeletionJob updateJob(Long jobId, long unassigned, UserDeletionStatus status) {
+        com.jumpsoft.taskmanagement.entity.UserDeletionJob job = userDeletionJobRepository.findById(jobId)
+                .orElseThrow(() -> new EntityNotFoundException("User deletion job with id " + jobId + " not found"));
+        job.setUnassignedTasks(job.getUnassignedTasks() + unassigned);
+        job.setStatus(status);
+        if (status.isUnfinished()) {
+            // A restarted failed job is no longer finished
+            job.setFinishedAt(null);
+            job.setError(null);
+        } else {
+            job.setFinishedAt(currentTimestamp());
+        }
+        return job;
+    }
+
+    private static LocalDateTime currentTimestamp() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -2,31 +2,38 @@ package com.jumpsoft.taskmanagement.service;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 
+import com.jumpsoft.taskmanagement.configuration.MetricsConfiguration;
 import com.jumpsoft.taskmanagement.controller.CustomException;
 import com.jumpsoft.taskmanagement.dto.error.ErrorCode;
+import com.jumpsoft.taskmanagement.dto.page.CursorPage;
+import com.jumpsoft.taskmanagement.dto.page.PageCursor;
 import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
 import com.jumpsoft.taskmanagement.dto.user.User;
 import com.jumpsoft.taskmanagement.dto.user.UserUpdateRequest;
+import com.jumpsoft.taskmanagement.enums.ChangedResource;
 import com.jumpsoft.taskmanagement.mapper.UserMapper;
-import com.jumpsoft.taskmanagement.repository.TaskRepository;
 import com.jumpsoft.taskmanagement.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 
 /**
  * Service class responsible for managing users. Provides methods
  * for CRUD operations and user manipulation such as searching,
- * creating, updating, and deleting users.
+ * creating and updating users. Users are deleted by {@link UserDeletionService}.
  */
 @Service
+@Timed(MetricsConfiguration.SERVICE_TIMER)
 public class UserService {
 
+    private static final String PAGE_SORT = "ID";
+
     @Autowired
     private UserRepository userRepository;
 
@@ -34,7 +41,10 @@ public class UserService {
     private UserMapper userMapper;
 
     @Autowired
-    private TaskRepository taskRepository;
+    private ChangeMarkerService changeMarkerService;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
 
     /**
      * Retrieves a user by their unique identifier.
@@ -45,19 +55,47 @@ public class UserService {
     @Transactional(readOnly = true)
     public Optional<User> findUserById(Long id) {
 
-        return userRepository.findById(id).map(userMapper::toDTO);
+        return userRepository.findById(id).filter(user -> !user.isDeleting()).map(userMapper::toDTO);
     }
 
     /**
-     * Retrieves a list of all users.
+     * Retrieves the version tag of a user, which changes whenever the user is updated.
      *
-     * @return A list containing all users mapped to DTOs.
+     * @param id The ID of the user.
+     * @return An Optional containing the version tag if the user is found, or an empty Optional otherwise.
      */
     @Transactional(readOnly = true)
-    public List<User> findAllUsers() {
+    public Optional<String> findUserVersionTag(Long id) {
 
-        return userRepository.findAll()
-                .stream().map(userMapper::toDTO).toList();
+        return userRepository.findById(id).filter(user -> !user.isDeleting()).map(user -> String.valueOf(user.getVersion()));
+    }
+
+    /**
+     * Retrieves the version of the whole user collection, which changes whenever any user is created, updated or deleted.
+     *
+     * @return The version of the user collection.
+     */
+    public long findUsersVersion() {
+
+        return changeMarkerService.currentVersion(ChangedResource.USERS);
+    }
+
+    /**
+     * Retrieves one page of users ordered by their ID.
+     *
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param size   The requested page size, bounded by {@link CursorPage#MAX_SIZE}.
+     * @return The page of users mapped to DTOs with the cursor of the next page.
+     * @throws CustomException If the cursor is not valid.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<User> findAllUsers(String cursor, Integer size) throws CustomException {
+
+        int pageSize = CursorPage.boundedSize(size);
+        PageCursor after = PageCursor.decode(cursor, PAGE_SORT);
+        return CursorPage.of(
+                userRepository.findByIdGreaterThanAndDeletingFalseOrderByIdAsc(after == null ? Long.MIN_VALUE : after.id(), Limit.of(pageSize + 1)),
+                pageSize, userMapper::toDTO, user -> PageCursor.of(PAGE_SORT, user.getId(), null));
     }
 
     /**
@@ -73,7 +111,10 @@ public class UserService {
         if (userRepository.findByUsername(userRequest.username()).isPresent()) {
             throw new CustomException(ErrorCode.DUPLICATE_USERNAME, userRequest.username());
         }
-        return userMapper.toDTO(userRepository.save(userMapper.toEntity(userRequest)));
+        User createdUser = userMapper.toDTO(userRepository.save(userMapper.toEntity(userRequest)));
+        changeMarkerService.markChanged(ChangedResource.USERS);
+        taskStatisticsService.addUser(createdUser.id());
+        return createdUser;
     }
 
     /**
@@ -88,29 +129,15 @@ public class UserService {
     public User updateUser(Long id, UserUpdateRequest userRequest) throws EntityNotFoundException {
 
         return userMapper.toDTO(userRepository.findById(id)
+                .filter(existingUser -> !existingUser.isDeleting())
                 .map(existingUser -> {
                     if (StringUtils.isNoneBlank(userRequest.fullName())) {
                         existingUser.setFullName(userRequest.fullName());
                     }
+                    // Tasks embed their user, so the task collection changes as well
+                    changeMarkerService.markChanged(ChangedResource.USERS, ChangedResource.TASKS);
                     return userRepository.save(existingUser);
                 })
                 .orElseThrow(() -> new EntityNotFoundException("User with id " + id + " not found")));
     }
-
-    /**
-     * Deletes a user by their unique identifier.
-     *
-     * @param id The ID of the user to delete.
-     */
-    @Transactional
-    public void deleteUser(Long id) throws EntityNotFoundException {
-
-        // Check if user exists first
-        if (!userRepository.existsById(id)) {
-            throw new EntityNotFoundException("User with id " + id + " not found");
-        }
-
-        taskRepository.updateUserIdInTasks(id, null);
-        userRepository.deleteById(id);
-    }
 }
@@ -0,0 +1,127 @@
+package com.jumpsoft.taskmanagement.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.Path;
+
+import com.jumpsoft.taskmanagement.dto.TaskFilter;
+import com.jumpsoft.taskmanagement.dto.page.PageCursor;
+import com.jumpsoft.taskmanagement.entity.ArchivedTask;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskCategory;
+import com.jumpsoft.taskmanagement.enums.TaskSort;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+
+/**
+ * Specification class for filtering archived tasks by the criteria of the task filter, the counterpart of
+ * {@link TaskSpecification} for the flat archive table. The archive has no search vector,
+ * the text is matched as a case-insensitive substring.
+ */
+
+public class ArchivedTaskSpecification {
+
+    /**
+     * Creates the specification of all criteria of the filter.
+     */
+    public static Specification<ArchivedTask> of(TaskFilter filter) {
+        return Specification.where(withStatus(filter.getStatus()))
+                .and(withUserId(filter.getUserId()))
+                .and(unassigned(filter.getUnassigned()))
+                .and(withCategory(filter.getCategory()))
+                .and(withSeverity(filter.getSeverity()))
+                .and(withDeadlineBetween(filter.getDeadlineFrom(), filter.getDeadlineTo()))
+                .and(withCreatedAtBetween(filter.getCreatedFrom(), filter.getCreatedTo()))
+                .and(matchesText(filter.getText()));
+    }
+
+    public static Specification<ArchivedTask> withStatus(TaskStatus status) {
+        return (root, query, cb) -> status == null ? cb.conjunction() : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<ArchivedTask> withUserId(Long userId) {
+        return (root, query, cb) -> userId == null ? cb.conjunction() : cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<ArchivedTask> unassigned(Boolean unassigned) {
+        return (root, query, cb) -> Boolean.TRUE.equals(unassigned) ? cb.isNull(root.get("user")) : cb.conjunction();
+    }
+
+    public static Specification<ArchivedTask> withCategory(TaskCategory category) {
+        return (root, query, cb) -> category == null ? cb.conjunction() : cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<ArchivedTask> withSeverity(BugSeverity severity) {
+        return (root, query, cb) -> severity == null ? cb.conjunction() : cb.and(
+                cb.equal(root.get("category"), TaskCategory.BUG),
+                cb.equal(root.get("severity"), severity));
+    }
+
+    /**
+     * Restricts archived tasks to features with the deadline in the inclusive range, either bound may be null.
+     */
+    public static Specification<ArchivedTask> withDeadlineBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            if (from == null && to == null) {
+                return cb.conjunction();
+            }
+            Path<LocalDate> deadline = root.get("deadline");
+            return cb.and(
+                    cb.equal(root.get("category"), TaskCategory.FEATURE),
+                    from == null ? cb.conjunction() : cb.greaterThanOrEqualTo(deadline, from),
+                    to == null ? cb.conjunction() : cb.lessThanOrEqualTo(deadline, to));
+        };
+    }
+
+    /**
+     * Restricts archived tasks to those created in the range including from and excluding to, either bound may be null.
+     */
+    public static Specification<ArchivedTask> withCreatedAtBetween(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> cb.and(
+                from == null ? cb.conjunction() : cb.greaterThanOrEqualTo(root.get("createdAt"), from),
+                to == null ? cb.conjunction() : cb.lessThan(root.get("createdAt"), to));
+    }
+
+    /**
+     * Restricts archived tasks to those whose name, description or reproduce steps contain the text, ignoring case.
+     */
+    public static Specification<ArchivedTask> matchesText(String text) {
+        return (root, query, cb) -> {
+            if (text == null) {
+                return cb.conjunction();
+            }
+            String pattern = "%" + text.toLowerCase()
+                    .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get("name")), pattern, '\\'),
+                    cb.like(cb.lower(root.get("description")), pattern, '\\'),
+                    cb.like(cb.lower(root.get("stepsToReproduce")), pattern, '\\'));
+        };
+    }
+
+    /**
+     * Restricts archived tasks to those ordered after the cursor position, see {@link TaskSpecification#after}.
+     */
+    public static Specification<ArchivedTask> after(TaskSort sort, PageCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            if (sort.isByCreatedAt()) {
+                Path<LocalDateTime> createdAt = root.get("createdAt");
+                return sort.isDescending()
+                        ? cb.and(
+                                cb.lessThanOrEqualTo(createdAt, cursor.createdAt()),
+                                cb.or(cb.lessThan(createdAt, cursor.createdAt()), cb.lessThan(root.get("id"), cursor.id())))
+                        : cb.and(
+                                cb.greaterThanOrEqualTo(createdAt, cursor.createdAt()),
+                                cb.or(cb.greaterThan(createdAt, cursor.createdAt()), cb.greaterThan(root.get("id"), cursor.id())));
+            }
+            return sort.isDescending()
+                    ? cb.lessThan(root.get("id"), cursor.id())
+                    : cb.greaterThan(root.get("id"), cursor.id());
+        };
+    }
+}
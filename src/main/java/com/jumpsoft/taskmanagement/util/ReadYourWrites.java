@@ -0,0 +1,78 @@
+package com.jumpsoft.taskmanagement.util;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Time of the last write of the client of the HTTP request handled by the current thread.
+ * The client keeps the time in a cookie, so for the window after its own writes its reads stay on the primary,
+ * whichever instance serves them, while the reads of all other clients keep going to the replica.
+ * The request filter starts and ends the state, the routing data source records the commits of the request.
+ * Threads outside of requests, e.g. background jobs, have no window.
+ */
+public class ReadYourWrites {
+
+    public static final String COOKIE = "last-write";
+
+    private static final ThreadLocal<ReadYourWrites> CURRENT = new ThreadLocal<>();
+
+    private final HttpServletResponse response;
+    private final Duration window;
+    private long lastWriteMillis;
+
+    private ReadYourWrites(HttpServletResponse response, Duration window, long lastWriteMillis) {
+        this.response = response;
+        this.window = window;
+        this.lastWriteMillis = lastWriteMillis;
+    }
+
+    /**
+     * Starts the window of the client of the current request.
+     *
+     * @param response        The response the cookie is added to after a write.
+     * @param window          Time after a write during which the reads of the client stay on the primary.
+     * @param lastWriteMillis Time of the last write sent by the client, zero if it sent none.
+     */
+    public static void start(HttpServletResponse response, Duration window, long lastWriteMillis) {
+        // A time in the future, e.g. of an instance with a clock ahead, counts as a write just now
+        CURRENT.set(new ReadYourWrites(response, window, Math.min(lastWriteMillis, System.currentTimeMillis())));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return Whether the client of the current request wrote within the window, its reads then use the primary.
+     */
+    public static boolean isPrimaryRequired() {
+        ReadYourWrites current = CURRENT.get();
+        return current != null && System.currentTimeMillis() - current.lastWriteMillis < current.window.toMillis();
+    }
+
+    /**
+     * Records the commit of a read-write transaction of the current request and sends its time to the client,
+     * unless the response has already been committed.
+     */
+    public static void written() {
+        ReadYourWrites current = CURRENT.get();
+        if (current == null || current.window.isZero()) {
+            return;
+        }
+        current.lastWriteMillis = System.currentTimeMillis();
+        if (!current.response.isCommitted()) {
+            // Replaces the cookie of an earlier commit of the same request, the application sets no other cookies
+            ResponseCookie cookie = ResponseCookie.from(COOKIE, String.valueOf(current.lastWriteMillis))
+                    .path("/")
+                    .maxAge(current.window)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build();
+            current.response.setHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.jumpsoft.taskmanagement.util;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Data source sending the connections of read-only transactions to the replica and all others to the primary.
+ * The target is chosen when a connection is obtained, so the data source has to be wrapped by a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which obtains the connection
+ * at the first statement, after the transaction has been marked read-only.
+ * Read-only transactions of a client which wrote within its read-your-writes window stay on the primary,
+ * so the client does not miss its own write on a lagging replica, see {@link ReadYourWrites}.
+ * Sessions reading from the replica only read the second-level cache, they never put what they read into it.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    /**
+     * @param entityManagerFactory Provider of the factory whose sessions read through this data source, which
+     *                             depends on the data source, so it is resolved when the first session reads.
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        ReadYourWrites.written();
+                    }
+                });
+            }
+            return Target.PRIMARY;
+        }
+        if (ReadYourWrites.isPrimaryRequired()) {
+            return Target.PRIMARY;
+        }
+        readCacheOnly();
+        return Target.REPLICA;
+    }
+
+    /**
+     * Keeps the session of the current transaction from putting the entities it reads from the replica into the
+     * second-level cache. The replica may lag behind, e.g. after a bulk update evicted the cache region, and an entity
+     * cached from it would be served until it expires, long after the replica caught up. The session obtains its
+     * connection at its first statement, so nothing it read from the database is cached yet.
+     */
+    private void readCacheOnly() {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory != null && TransactionSynchronizationManager.getResource(factory) instanceof EntityManagerHolder holder) {
+            holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+    }
+}
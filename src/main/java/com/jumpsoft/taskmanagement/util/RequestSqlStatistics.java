@@ -0,0 +1,152 @@
+package com.jumpsoft.taskmanagement.util;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.MDC;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Statements, rows and JDBC time of the HTTP request handled by the current thread.
+ * The request filter starts and ends the statistics, the {@link Listener} of the proxied data source adds
+ * every statement executed in between. Statements of other threads, e.g. streamed exports, are not counted.
+ * The running numbers are kept in the MDC, so every log line of the request shows them.
+ */
+public class RequestSqlStatistics {
+
+    public static final String MDC_STATEMENTS = "sqlStatements";
+    public static final String MDC_ROWS = "sqlRows";
+    public static final String MDC_TIME = "sqlTimeMs";
+
+    /**
+     * Statements kept for the log of a request over budget, the rest are only counted.
+     */
+    private static final int MAX_KEPT_STATEMENTS = 100;
+
+    private static final ThreadLocal<RequestSqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final List<String> statements = new ArrayList<>();
+    private int statementCount;
+    private long rows;
+    private long nanos;
+    private long statementStart;
+
+    /**
+     * Starts counting the statements of the current thread.
+     */
+    public static RequestSqlStatistics start() {
+        RequestSqlStatistics statistics = new RequestSqlStatistics();
+        CURRENT.set(statistics);
+        statistics.updateMdc();
+        return statistics;
+    }
+
+    /**
+     * Stops counting the statements of the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+        MDC.remove(MDC_STATEMENTS);
+        MDC.remove(MDC_ROWS);
+        MDC.remove(MDC_TIME);
+    }
+
+    /**
+     * @return Number of executed statements, a JDBC batch counts as one.
+     */
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * @return Rows read from the result sets and rows changed by the updates.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * @return Time spent executing the statements, reading the result sets excluded.
+     */
+    public long getTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * @return SQL of the first executed statements.
+     */
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    /**
+     * Puts the current numbers to the MDC, rows read since the last statement included.
+     */
+    public void updateMdc() {
+        MDC.put(MDC_STATEMENTS, String.valueOf(statementCount));
+        MDC.put(MDC_ROWS, String.valueOf(rows));
+        MDC.put(MDC_TIME, String.valueOf(getTimeMillis()));
+    }
+
+    /**
+     * Listener of the proxied data source adding the statements and rows to the statistics of the current thread.
+     */
+    public static class Listener implements QueryExecutionListener, MethodExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            RequestSqlStatistics statistics = CURRENT.get();
+            if (statistics != null) {
+                statistics.statementStart = System.nanoTime();
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            RequestSqlStatistics statistics = CURRENT.get();
+            if (statistics == null) {
+                return;
+            }
+            statistics.nanos += System.nanoTime() - statistics.statementStart;
+            statistics.statementCount++;
+            if (execInfo.getResult() instanceof Integer updated && updated > 0) {
+                statistics.rows += updated;
+            } else if (execInfo.getResult() instanceof int[] batch) {
+                for (int updated : batch) {
+                    statistics.rows += Math.max(updated, 0);
+                }
+            }
+            for (QueryInfo queryInfo : queryInfoList) {
+                if (statistics.statements.size() < MAX_KEPT_STATEMENTS) {
+                    statistics.statements.add(execInfo.isBatch()
+                            ? queryInfo.getQuery() + " [batch of " + execInfo.getBatchSize() + "]"
+                            : queryInfo.getQuery());
+                }
+            }
+            statistics.updateMdc();
+        }
+
+        @Override
+        public void beforeMethod(MethodExecutionContext executionContext) {
+        }
+
+        @Override
+        public void afterMethod(MethodExecutionContext executionContext) {
+            if (executionContext.getTarget() instanceof ResultSet
+                    && Boolean.TRUE.equals(executionContext.getResult())
+                    && "next".equals(executionContext.getMethod().getName())) {
+                RequestSqlStatistics statistics = CURRENT.get();
+                if (statistics != null) {
+                    statistics.rows++;
+                }
+            }
+        }
+    }
+}
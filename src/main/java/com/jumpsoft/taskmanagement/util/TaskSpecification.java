@@ -1,26 +1,52 @@
 package com.jumpsoft.taskmanagement.util;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 import org.springframework.data.jpa.domain.Specification;
 
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+
+import com.jumpsoft.taskmanagement.dto.page.ChangeToken;
+import com.jumpsoft.taskmanagement.dto.page.PageCursor;
+import com.jumpsoft.taskmanagement.entity.Bug;
+import com.jumpsoft.taskmanagement.entity.Feature;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskCategory;
+import com.jumpsoft.taskmanagement.enums.TaskSort;
 import com.jumpsoft.taskmanagement.enums.TaskStatus;
 import com.jumpsoft.taskmanagement.entity.Task;
+import com.jumpsoft.taskmanagement.repository.TaskTextSearchFunctions;
 
 /**
  * Specification class for filtering tasks based on various criteria.
- * Provides methods to create specifications for task status and user ID.
+ * Provides methods to create specifications for the criteria of the task filter and for keyset pagination.
  */
 
 public class TaskSpecification {
 
+    /**
+     * Restricts tasks to the status. The few statuses are rendered as literals, so the database can use
+     * the partial index of open tasks and the column statistics of the particular status.
+     */
     public static Specification<Task> withStatus(TaskStatus status) {
         return (root, query, cb) -> {
             if (status == null) {
                 return cb.conjunction();
             }
-            return cb.equal(root.get("status"), status);
+            return cb.equal(root.get("status"), cb.literal(status));
         };
     }
 
+    /**
+     * Restricts tasks to those with one of the IDs.
+     */
+    public static Specification<Task> withIdIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
     public static Specification<Task> withUserId(Long userId) {
         return (root, query, cb) -> {
             if (userId == null) {
@@ -29,4 +55,134 @@ public class TaskSpecification {
             return cb.equal(root.get("user").get("id"), userId);
         };
     }
+
+    /**
+     * Restricts tasks to the category. The condition is rendered on the discriminator column as a literal,
+     * which lets the database use the partial indexes of bugs and features.
+     */
+    public static Specification<Task> withCategory(TaskCategory category) {
+        return (root, query, cb) -> {
+            if (category == null) {
+                return cb.conjunction();
+            }
+            return switch (category) {
+                case BUG -> cb.equal(root.type(), cb.literal(Bug.class));
+                case FEATURE -> cb.equal(root.type(), cb.literal(Feature.class));
+            };
+        };
+    }
+
+    public static Specification<Task> withSeverity(BugSeverity severity) {
+        return (root, query, cb) -> {
+            if (severity == null) {
+                return cb.conjunction();
+            }
+            return cb.and(
+                    cb.equal(root.type(), cb.literal(Bug.class)),
+                    cb.equal(cb.treat(root, Bug.class).get("severity"), severity));
+        };
+    }
+
+    /**
+     * Restricts tasks to features with the deadline in the inclusive range, either bound may be null.
+     */
+    public static Specification<Task> withDeadlineBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            if (from == null && to == null) {
+                return cb.conjunction();
+            }
+            Path<LocalDate> deadline = cb.treat(root, Feature.class).get("deadline");
+            return cb.and(
+                    cb.equal(root.type(), cb.literal(Feature.class)),
+                    from == null ? cb.conjunction() : cb.greaterThanOrEqualTo(deadline, from),
+                    to == null ? cb.conjunction() : cb.lessThanOrEqualTo(deadline, to));
+        };
+    }
+
+    /**
+     * Restricts tasks to those created in the range including from and excluding to, either bound may be null.
+     */
+    public static Specification<Task> withCreatedAtBetween(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> cb.and(
+                from == null ? cb.conjunction() : cb.greaterThanOrEqualTo(root.get("createdAt"), from),
+                to == null ? cb.conjunction() : cb.lessThan(root.get("createdAt"), to));
+    }
+
+    public static Specification<Task> unassigned(Boolean unassigned) {
+        return (root, query, cb) -> {
+            if (!Boolean.TRUE.equals(unassigned)) {
+                return cb.conjunction();
+            }
+            return cb.isNull(root.get("user"));
+        };
+    }
+
+    /**
+     * Restricts tasks to those whose name, description or reproduce steps contain the text.
+     * On PostgreSQL the text is a web search query matched by the GIN index of the search vector.
+     */
+    public static Specification<Task> matchesText(String text) {
+        return (root, query, cb) -> {
+            if (text == null) {
+                return cb.conjunction();
+            }
+            return TaskTextSearchFunctions.matches(cb, root, text);
+        };
+    }
+
+    /**
+     * Restricts tasks ordered by change sequence and ID to those changed after the position of the delta sync
+     * up to the change sequence, inclusive.
+     * The redundant bound on the change sequence lets the database range-scan the (change_seq, id) index.
+     */
+    public static Specification<Task> changedAfter(ChangeToken token, long lastChangeSeq) {
+        return (root, query, cb) -> {
+            Path<Long> changeSeq = root.get("changeSeq");
+            return cb.and(
+                    cb.greaterThanOrEqualTo(changeSeq, token.changeSeq()),
+                    cb.lessThanOrEqualTo(changeSeq, lastChangeSeq),
+                    cb.or(cb.greaterThan(changeSeq, token.changeSeq()), cb.greaterThan(root.get("id"), token.id())));
+        };
+    }
+
+    /**
+     * Restricts tasks ordered by their rank for the text to those after the cursor position.
+     */
+    public static Specification<Task> afterRank(String text, PageCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            Expression<Long> rank = TaskTextSearchFunctions.rank(cb, root, text);
+            return cb.or(
+                    cb.lessThan(rank, cursor.rank()),
+                    cb.and(cb.equal(rank, cursor.rank()), cb.greaterThan(root.get("id"), cursor.id())));
+        };
+    }
+
+    /**
+     * Restricts tasks to those ordered after the cursor position.
+     * For orderings by creation time the redundant bound on created_at lets the database
+     * range-scan the (created_at, id) index instead of evaluating the OR for every row.
+     */
+    public static Specification<Task> after(TaskSort sort, PageCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            if (sort.isByCreatedAt()) {
+                Path<LocalDateTime> createdAt = root.get("createdAt");
+                return sort.isDescending()
+                        ? cb.and(
+                                cb.lessThanOrEqualTo(createdAt, cursor.createdAt()),
+                                cb.or(cb.lessThan(createdAt, cursor.createdAt()), cb.lessThan(root.get("id"), cursor.id())))
+                        : cb.and(
+                                cb.greaterThanOrEqualTo(createdAt, cursor.createdAt()),
+                                cb.or(cb.greaterThan(createdAt, cursor.createdAt()), cb.greaterThan(root.get("id"), cursor.id())));
+            }
+            return sort.isDescending()
+                    ? cb.lessThan(root.get("id"), cursor.id())
+                    : cb.greaterThan(root.get("id"), cursor.id());
+        };
+    }
 }
@@ -1,12 +1,14 @@
 package com.jumpsoft.taskmanagement.validation;
 
 import com.jumpsoft.taskmanagement.dto.TaskFilter;
+import com.jumpsoft.taskmanagement.enums.TaskCategory;
+
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 /**
  * Validator for the {@link ValidTaskFilter} annotation.
- * Verifies that a TaskFilter has at least one criterion specified.
+ * Verifies that a TaskFilter has at least one criterion specified and that its criteria can match together.
  */
 public class TaskFilterValidator implements ConstraintValidator<ValidTaskFilter, TaskFilter> {
 
@@ -20,7 +22,41 @@ public class TaskFilterValidator implements ConstraintValidator<ValidTaskFilter,
         if (taskFilter == null) {
             return true; // Null validation is handled by @NotNull if needed
         }
-        
-        return taskFilter.hasAnyCriteria();
+        if (!taskFilter.hasAnyCriteria()) {
+            return false;
+        }
+
+        if (taskFilter.getText() != null && taskFilter.getText().isBlank()) {
+            return violation(context, "text", "Text must not be blank");
+        }
+        if (taskFilter.getUserId() != null && Boolean.TRUE.equals(taskFilter.getUnassigned())) {
+            return violation(context, "unassigned", "Unassigned tasks cannot be filtered by user");
+        }
+        if (taskFilter.hasBugCriteria() && taskFilter.hasFeatureCriteria()) {
+            return violation(context, "severity", "Severity applies to bugs, deadline to features, they cannot be combined");
+        }
+        if (taskFilter.hasBugCriteria() && taskFilter.getCategory() == TaskCategory.FEATURE) {
+            return violation(context, "severity", "Severity can only be filtered for bugs");
+        }
+        if (taskFilter.hasFeatureCriteria() && taskFilter.getCategory() == TaskCategory.BUG) {
+            return violation(context, "deadlineFrom", "Deadline can only be filtered for features");
+        }
+        if (taskFilter.getDeadlineFrom() != null && taskFilter.getDeadlineTo() != null
+                && taskFilter.getDeadlineFrom().isAfter(taskFilter.getDeadlineTo())) {
+            return violation(context, "deadlineFrom", "Deadline range must not end before it starts");
+        }
+        if (taskFilter.getCreatedFrom() != null && taskFilter.getCreatedTo() != null
+                && !taskFilter.getCreatedFrom().isBefore(taskFilter.getCreatedTo())) {
+            return violation(context, "createdFrom", "Creation time range must end after it starts");
+        }
+        return true;
+    }
+
+    private boolean violation(ConstraintValidatorContext context, String field, String message) {
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(message)
+                .addPropertyNode(field)
+                .addConstraintViolation();
+        return false;
     }
-}
\ No newline at end of file
+}
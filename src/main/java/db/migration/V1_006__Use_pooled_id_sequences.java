@@ -0,0 +1,44 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Switches task_id_seq and user_id_seq to block increments used by the Hibernate pooled-lo optimizer,
+ * so one nextval call covers {@link #INCREMENT} inserts.
+ *
+ * The sequences are restarted above every ID which already exists or was already handed out,
+ * so existing rows never collide with the new blocks. This is a Java migration because
+ * H2 does not support setval, and PostgreSQL only accepts a constant in ALTER SEQUENCE ... RESTART.
+ */
+public class V1_006__Use_pooled_id_sequences extends BaseJavaMigration {
+
+    /**
+     * Has to match allocationSize of the @SequenceGenerator of the entities.
+     */
+    private static final int INCREMENT = 50;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        restartWithIncrement(connection, "task_id_seq", "tasks");
+        restartWithIncrement(connection, "user_id_seq", "users");
+    }
+
+    private void restartWithIncrement(Connection connection, String sequence, String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            long restartWith;
+            try (ResultSet resultSet = statement.executeQuery(
+                    "SELECT nextval('" + sequence + "'), (SELECT COALESCE(MAX(id), 0) FROM " + table + ")")) {
+                resultSet.next();
+                restartWith = Math.max(resultSet.getLong(1), resultSet.getLong(2) + 1);
+            }
+            statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restartWith + " INCREMENT BY " + INCREMENT);
+        }
+    }
+}
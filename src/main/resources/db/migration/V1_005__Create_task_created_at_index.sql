@@ -0,0 +1,2 @@
+-- Index for keyset pagination of tasks ordered by creation time
+CREATE INDEX idx_tasks_created_at_id ON tasks (created_at, id);
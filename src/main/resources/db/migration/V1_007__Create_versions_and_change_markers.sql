@@ -0,0 +1,14 @@
+-- Optimistic lock versions, also used as ETags of single tasks and users
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Change markers of the collections, incremented by every transaction changing them
+CREATE TABLE change_markers (
+                       resource VARCHAR(20) NOT NULL,
+                       version BIGINT NOT NULL,
+
+                       CONSTRAINT pk_change_markers PRIMARY KEY (resource)
+);
+
+INSERT INTO change_markers (resource, version) VALUES ('TASKS', 0);
+INSERT INTO change_markers (resource, version) VALUES ('USERS', 0);
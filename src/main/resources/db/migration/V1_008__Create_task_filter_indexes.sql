@@ -0,0 +1,7 @@
+-- Composite indexes of the task search filters.
+-- The leading column serves the former single-column category index, so it is dropped.
+-- idx_tasks_user_id is dropped only on PostgreSQL (V1_009), H2 keeps it for the user_id foreign key.
+CREATE INDEX idx_tasks_user_id_status ON tasks (user_id, status);
+
+DROP INDEX idx_tasks_category;
+CREATE INDEX idx_tasks_category_status ON tasks (category, status);
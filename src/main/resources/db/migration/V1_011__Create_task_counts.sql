@@ -0,0 +1,26 @@
+-- Task counts by status, category, bug severity and assigned user, maintained by every transaction changing tasks.
+-- Every bucket has its row from the start, so the counts are only ever updated, assignees get theirs with the user.
+CREATE TABLE task_counts (
+                       dimension VARCHAR(20) NOT NULL,
+                       bucket VARCHAR(20) NOT NULL,
+                       task_count BIGINT NOT NULL,
+
+                       CONSTRAINT pk_task_counts PRIMARY KEY (dimension, bucket)
+);
+
+INSERT INTO task_counts (dimension, bucket, task_count) VALUES ('STATUS', 'OPEN', (SELECT COUNT(*) FROM tasks WHERE status = 'OPEN'));
+INSERT INTO task_counts (dimension, bucket, task_count) VALUES ('STATUS', 'IN_PROGRESS', (SELECT COUNT(*) FROM tasks WHERE status = 'IN_PROGRESS'));
+INSERT INTO task_counts (dimension, bucket, task_count) VALUES ('STATUS', 'DONE', (SELECT COUNT(*) FROM tasks WHERE status = 'DONE'));
+
+INSERT INTO task_counts (dimension, bucket, task_count) VALUES ('CATEGORY', 'BUG', (SELECT COUNT(*) FROM tasks WHERE category = 'BUG'));
+INSERT INTO task_counts (dimension, bucket, task_count) VALUES ('CATEGORY', 'FEATURE', (SELECT COUNT(*) FROM tasks WHERE category = 'FEATURE'));
+
+INSERT INTO task_counts (dimension, bucket, task_count) VALUES ('SEVERITY', 'CRITICAL', (SELECT COUNT(*) FROM tasks WHERE category = 'BUG' AND severity = 'CRITICAL'));
+INSERT INTO task_counts (dimension, bucket, task_count) VALUES ('SEVERITY', 'HIGH', (SELECT COUNT(*) FROM tasks WHERE category = 'BUG' AND severity = 'HIGH'));
+INSERT INTO task_counts (dimension, bucket, task_count) VALUES ('SEVERITY', 'MEDIUM', (SELECT COUNT(*) FROM tasks WHERE category = 'BUG' AND severity = 'MEDIUM'));
+INSERT INTO task_counts (dimension, bucket, task_count) VALUES ('SEVERITY', 'LOW', (SELECT COUNT(*) FROM tasks WHERE category = 'BUG' AND severity = 'LOW'));
+INSERT INTO task_counts (dimension, bucket, task_count) VALUES ('SEVERITY', 'TRIVIAL', (SELECT COUNT(*) FROM tasks WHERE category = 'BUG' AND severity = 'TRIVIAL'));
+
+INSERT INTO task_counts (dimension, bucket, task_count) VALUES ('ASSIGNEE', 'UNASSIGNED', (SELECT COUNT(*) FROM tasks WHERE user_id IS NULL));
+INSERT INTO task_counts (dimension, bucket, task_count)
+SELECT 'ASSIGNEE', CAST(u.id AS VARCHAR(20)), (SELECT COUNT(*) FROM tasks t WHERE t.user_id = u.id) FROM users u;
@@ -0,0 +1,22 @@
+-- Users being deleted are hidden from reads and new assignments while their tasks are unassigned in the background
+ALTER TABLE users ADD COLUMN deleting BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Background deletions of users, the user row is removed once none of its tasks are left assigned
+CREATE TABLE user_deletion_jobs (
+                       id BIGINT NOT NULL,
+                       version BIGINT NOT NULL DEFAULT 0,
+                       user_id BIGINT NOT NULL,
+                       status VARCHAR(20) NOT NULL,
+                       unassigned_tasks BIGINT NOT NULL DEFAULT 0,
+                       created_at TIMESTAMP NOT NULL,
+                       finished_at TIMESTAMP,
+                       error VARCHAR(500),
+
+                       CONSTRAINT pk_user_deletion_jobs PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_user_deletion_jobs_status ON user_deletion_jobs (status);
+
+CREATE SEQUENCE user_deletion_job_id_seq
+    START WITH 1
+    INCREMENT BY 1;
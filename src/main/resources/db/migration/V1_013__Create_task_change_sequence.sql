@@ -0,0 +1,14 @@
+-- Change sequence of the delta sync: the version of the TASKS change marker committed with the last change of the task.
+-- Rows written by a transaction carry a negative placeholder until it is replaced right before the commit.
+ALTER TABLE tasks ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+CREATE INDEX idx_tasks_change_seq_id ON tasks (change_seq, id);
+
+-- Deleted tasks with the change sequence of their deletion, so clients of the delta sync learn about deletes
+CREATE TABLE task_tombstones (
+                       task_id BIGINT NOT NULL,
+                       change_seq BIGINT NOT NULL,
+
+                       CONSTRAINT pk_task_tombstones PRIMARY KEY (task_id)
+);
+
+CREATE INDEX idx_task_tombstones_change_seq_task_id ON task_tombstones (change_seq, task_id);
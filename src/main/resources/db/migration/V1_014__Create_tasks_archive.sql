@@ -0,0 +1,24 @@
+-- Done tasks moved out of tasks by the archival job, read-only from then on.
+-- Bugs and features share the table like in tasks, the user is set to null when it is deleted.
+CREATE TABLE tasks_archive (
+                       id BIGINT NOT NULL,
+                       version BIGINT NOT NULL,
+                       name VARCHAR(100) NOT NULL,
+                       description VARCHAR(500),
+                       created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+                       category VARCHAR(10) NOT NULL,
+                       status VARCHAR(20) NOT NULL,
+                       user_id BIGINT,
+                       severity VARCHAR(20),
+                       steps_to_reproduce TEXT,
+                       deadline DATE,
+                       business_value VARCHAR(500),
+                       archived_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+
+                       CONSTRAINT pk_tasks_archive PRIMARY KEY (id),
+                       CONSTRAINT fk_tasks_archive_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE SET NULL
+);
+
+-- Indexes of the archive search, ordered by ID or by creation time
+CREATE INDEX idx_tasks_archive_user_id_status ON tasks_archive (user_id, status);
+CREATE INDEX idx_tasks_archive_created_at_id ON tasks_archive (created_at, id);
@@ -0,0 +1,266 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.task.TaskUpdateRequest;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.repository.CapturingStatementInspector;
+import com.jumpsoft.taskmanagement.repository.TaskRepository;
+import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.UserDeletionService;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the ETags, If-None-Match and If-Match handling of the task and user endpoints.
+ * Change markers are incremented only by committed transactions, so these tests commit their data and remove it afterwards.
+ */
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ConditionalRequestIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDeletionService userDeletionService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User createdUser;
+    private Task createdTask;
+
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        createdUser = userService.createUser(new UserCreateRequest("etaguser", "ETag User"));
+        createdTask = taskService.createTask(new BugTaskCreateRequest("ETag bug", null, TaskStatus.OPEN,
+                null, BugSeverity.HIGH, createdUser.id()));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        taskService.deleteTask(createdTask.getId());
+        UserDeletions.deleteUser(userDeletionService, createdUser.id());
+    }
+
+    @Test
+    public void getTaskById_WithCurrentETag_ReturnsNotModifiedWithoutStatements() throws Exception {
+        // Arrange
+        String eTag = eTagOf(get("/api/tasks/{id}", createdTask.getId()));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/{id}", createdTask.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void getTaskById_AfterUserUpdate_ReturnsTaskWithNewETag() throws Exception {
+        // Arrange
+        String eTag = eTagOf(get("/api/tasks/{id}", createdTask.getId()));
+        mockMvc.perform(patch("/api/users/{id}", createdUser.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"fullName\": \"Renamed User\"}"))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/{id}", createdTask.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.user.fullName", is("Renamed User")));
+    }
+
+    @Test
+    public void getAllTasks_WithCurrentETag_ReturnsNotModified() throws Exception {
+        // Arrange
+        String eTag = eTagOf(get("/api/tasks"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void getAllTasks_AfterTaskUpdate_ReturnsPageWithNewETag() throws Exception {
+        // Arrange
+        String eTag = eTagOf(get("/api/tasks"));
+        mockMvc.perform(patch("/api/tasks/{id}", createdTask.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"DONE\"}"))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.items[0].status", is("DONE")));
+    }
+
+    @Test
+    public void getUserById_WithCurrentETag_ReturnsNotModified() throws Exception {
+        // Arrange
+        String eTag = eTagOf(get("/api/users/{id}", createdUser.id()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users/{id}", createdUser.id())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void getAllUsers_AfterUserCreated_ReturnsPageWithNewETag() throws Exception {
+        // Arrange
+        String eTag = eTagOf(get("/api/users"));
+        User otherUser = userService.createUser(new UserCreateRequest("etagother", "Other User"));
+
+        // Act & Assert
+        try {
+            mockMvc.perform(get("/api/users")
+                    .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                    .andExpect(jsonPath("$.items[*].username", hasItem("etagother")));
+        } finally {
+            UserDeletions.deleteUser(userDeletionService, otherUser.id());
+        }
+    }
+
+    @Test
+    public void updateTask_WithCurrentETag_UpdatesOnlyChangedColumns() throws Exception {
+        // Arrange
+        String eTag = eTagOf(get("/api/tasks/{id}", createdTask.getId()));
+        CapturingStatementInspector.start();
+
+        // Act
+        String newETag;
+        try {
+            newETag = mockMvc.perform(patch("/api/tasks/{id}", createdTask.getId())
+                    .header(HttpHeaders.IF_MATCH, eTag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"status\": \"IN_PROGRESS\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status", is("IN_PROGRESS")))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        } finally {
+            List<String> taskUpdates = CapturingStatementInspector.stop().stream()
+                    .filter(sql -> sql.startsWith("update tasks"))
+                    .toList();
+
+            // Assert, every write also sets the pending change sequence of the delta sync
+            assertEquals(List.of("update tasks set change_seq=?,status=?,version=? where id=? and version=?"), taskUpdates);
+        }
+        mockMvc.perform(get("/api/tasks/{id}", createdTask.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, newETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void updateTask_WithStaleETag_ReturnsPreconditionFailed() throws Exception {
+        // Arrange
+        String eTag = eTagOf(get("/api/tasks/{id}", createdTask.getId()));
+        mockMvc.perform(patch("/api/tasks/{id}", createdTask.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"IN_PROGRESS\"}"))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/{id}", createdTask.getId())
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"DONE\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.errorItems[0].code", is("TASK_VERSION_MISMATCH")));
+        mockMvc.perform(get("/api/tasks/{id}", createdTask.getId()))
+                .andExpect(jsonPath("$.status", is("IN_PROGRESS")));
+    }
+
+    @Test
+    public void updateTask_ChangedAfterRead_FailsInsteadOfOverwriting() {
+        // Arrange
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        TransactionTemplate concurrentTransaction = new TransactionTemplate(transactionManager);
+        concurrentTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> transaction.executeWithoutResult(status -> {
+            taskRepository.findById(createdTask.getId()).orElseThrow();
+            concurrentTransaction.executeWithoutResult(concurrent -> updateStatus(TaskStatus.IN_PROGRESS));
+            updateStatus(TaskStatus.DONE);
+        }));
+        assertEquals(TaskStatus.IN_PROGRESS, taskService.findTaskById(createdTask.getId()).orElseThrow().getStatus());
+    }
+
+    private void updateStatus(TaskStatus status) {
+        try {
+            taskService.updateTask(createdTask.getId(),
+                    new TaskUpdateRequest(null, null, status, null, null, null, null, null), invalid -> { });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String eTagOf(MockHttpServletRequestBuilder request) throws Exception {
+        ResultActions result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+        return result.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,83 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the service, repository and Hibernate metrics published by the actuator.
+ */
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class MetricsIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void serviceTimer_AfterRequest_IsTaggedByMethodAndOutcome() throws Exception {
+        // Arrange
+        mockMvc.perform(get("/api/users").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get("/actuator/metrics/taskmanagement.service")
+                .param("tag", "class:com.jumpsoft.taskmanagement.service.UserService", "method:findAllUsers", "outcome:SUCCESS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[?(@.statistic == 'COUNT')].value", contains(greaterThanOrEqualTo(1.0))));
+    }
+
+    @Test
+    public void serviceTimer_AfterFailure_HasErrorOutcome() throws Exception {
+        // Arrange
+        mockMvc.perform(get("/api/tasks")
+                .param("sort", "RELEVANCE")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        // Act & Assert
+        mockMvc.perform(get("/actuator/metrics/taskmanagement.service")
+                .param("tag", "method:findAllTasks", "outcome:ERROR", "exception:CustomException"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[?(@.statistic == 'COUNT')].value", contains(greaterThanOrEqualTo(1.0))));
+    }
+
+    @Test
+    public void repositoryTimer_AfterRequest_IsTaggedByMethodAndState() throws Exception {
+        // Arrange
+        mockMvc.perform(get("/api/users").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get("/actuator/metrics/spring.data.repository.invocations")
+                .param("tag", "repository:UserRepository", "state:SUCCESS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availableTags[*].tag", hasItem("method")));
+    }
+
+    @Test
+    public void hibernateMetrics_AfterRequest_CountQueries() throws Exception {
+        // Arrange
+        mockMvc.perform(get("/api/tasks").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get("/actuator/metrics/hibernate.query.executions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value", greaterThanOrEqualTo(1.0)));
+        mockMvc.perform(get("/actuator/metrics/hibernate.flushes"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics/hibernate.query.slow"))
+                .andExpect(status().isOk());
+    }
+}
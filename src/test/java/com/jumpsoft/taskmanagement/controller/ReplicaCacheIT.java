@@ -0,0 +1,117 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.task.TaskStatusUpdateRequest;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.UserDeletionService;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import javax.sql.DataSource;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the second-level cache of reads routed to the replica.
+ * The configuration is the one of {@link ReplicaReadYourWritesIT}, the cache is on.
+ */
+
+@SpringBootTest(properties = {
+        ReplicaDatabases.REPLICA_URL_PROPERTY,
+        "task-management.replica.read-your-writes-window=1h"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ReplicaCacheIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserDeletionService userDeletionService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private ReplicaDatabases databases;
+    private User createdUser;
+    private Task createdTask;
+
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        databases = new ReplicaDatabases(primaryDataSource, replicaDataSource);
+        createdUser = userService.createUser(new UserCreateRequest("replicacacheuser", "Replica Cache User"));
+        createdTask = taskService.createTask(new BugTaskCreateRequest("Replica cache bug", null, TaskStatus.OPEN,
+                null, BugSeverity.LOW, createdUser.id()));
+        databases.replicate("users", createdUser.id());
+        databases.replicate("tasks", createdTask.getId());
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        databases.clearReplica();
+        taskService.deleteTask(createdTask.getId());
+        UserDeletions.deleteUser(userDeletionService, createdUser.id());
+    }
+
+    @Test
+    public void getTaskById_ReplicaBehindBulkUpdate_DoesNotCacheReplicaRow() throws Exception {
+        // Arrange, the bulk update evicts the task region and the replica stays one version behind
+        taskService.updateTaskStatus(new TaskStatusUpdateRequest(TaskStatus.DONE, List.of(createdTask.getId()), null));
+
+        // Act, a client which did not write reads the replica
+        String staleETag = mockMvc.perform(get("/api/tasks/{id}", createdTask.getId())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("OPEN")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Assert, once the replica caught up the old row is neither served nor answered with 304
+        assertFalse(entityManagerFactory.getCache().contains(
+                com.jumpsoft.taskmanagement.entity.Task.class, createdTask.getId()));
+        databases.replica.update("UPDATE tasks SET status = 'DONE', version = version + 1 WHERE id = ?", createdTask.getId());
+        mockMvc.perform(get("/api/tasks/{id}", createdTask.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, staleETag)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("DONE")))
+                .andExpect(header().string(HttpHeaders.ETAG, not(staleETag)));
+    }
+}
@@ -0,0 +1,61 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The primary and the replica database of the replica tests. The replica is a second H2 database which is not
+ * replicated, so a row shows where it was read from. Rows are written directly to either database.
+ */
+class ReplicaDatabases {
+
+    static final String REPLICA_URL_PROPERTY = "task-management.replica.url="
+            + "jdbc:h2:mem:replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+
+    static final long REPLICA_USER_ID = 9_000_001L;
+
+    private static final String INSERT_USER = "INSERT INTO users (id, username, full_name) VALUES (?, ?, ?)";
+
+    final JdbcTemplate primary;
+    final JdbcTemplate replica;
+
+    /**
+     * Migrates the replica and adds the user only the replica has, named replicauser.
+     */
+    ReplicaDatabases(DataSource primaryDataSource, DataSource replicaDataSource) {
+        Flyway.configure()
+                .dataSource(replicaDataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        insertUser(replica, REPLICA_USER_ID, "replicauser");
+    }
+
+    void insertUser(JdbcTemplate database, long id, String username) {
+        database.update(INSERT_USER, id, username, username + " name");
+    }
+
+    /**
+     * Copies the row with the ID from the primary to the replica, as the replication would.
+     */
+    void replicate(String table, long id) {
+        Map<String, Object> row = primary.queryForMap("SELECT * FROM " + table + " WHERE id = ?", id);
+        replica.update("INSERT INTO " + table + " (" + String.join(", ", row.keySet()) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(row.size(), "?")) + ")", row.values().toArray());
+    }
+
+    /**
+     * Removes everything from the replica.
+     */
+    void clearReplica() {
+        replica.update("DELETE FROM tasks");
+        replica.update("DELETE FROM users");
+    }
+}
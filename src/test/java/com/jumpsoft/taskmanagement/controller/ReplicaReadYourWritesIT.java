@@ -0,0 +1,135 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.jumpsoft.taskmanagement.service.UserDeletionService;
+import com.jumpsoft.taskmanagement.util.ReadYourWrites;
+
+import jakarta.servlet.http.Cookie;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+
+import java.time.Duration;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the read-your-writes window of the replica routing.
+ * The window lasts longer than the tests, so a client which sends the cookie of its write reads the primary.
+ */
+
+@SpringBootTest(properties = {
+        ReplicaDatabases.REPLICA_URL_PROPERTY,
+        "task-management.replica.read-your-writes-window=1h"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ReplicaReadYourWritesIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserDeletionService userDeletionService;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private ReplicaDatabases databases;
+    private Long createdUserId;
+
+
+    @BeforeEach
+    public void setUp() {
+        databases = new ReplicaDatabases(primaryDataSource, replicaDataSource);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        databases.clearReplica();
+        if (createdUserId != null) {
+            UserDeletions.deleteUser(userDeletionService, createdUserId);
+        }
+    }
+
+    @Test
+    public void createUser_WithinWindow_WritingClientReadsPrimary() throws Exception {
+        // Act
+        Cookie lastWrite = createUser();
+
+        // Assert
+        assertEquals(1, databases.primary.queryForObject("SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, createdUserId));
+        assertEquals(0, databases.replica.queryForObject("SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, createdUserId));
+        getAllUsers(lastWrite)
+                .andExpect(jsonPath("$.items[*].username", hasItem("routeduser")))
+                .andExpect(jsonPath("$.items[*].username", not(hasItem("replicauser"))));
+    }
+
+    @Test
+    public void createUser_WithinWindow_OtherClientReadsReplica() throws Exception {
+        // Act
+        createUser();
+
+        // Assert
+        getAllUsers(null)
+                .andExpect(jsonPath("$.items[*].username", contains("replicauser")));
+    }
+
+    @Test
+    public void getAllUsers_WriteBeforeWindow_ReadsReplica() throws Exception {
+        // Arrange
+        long before = System.currentTimeMillis() - Duration.ofHours(2).toMillis();
+
+        // Act & Assert
+        getAllUsers(new Cookie(ReadYourWrites.COOKIE, String.valueOf(before)))
+                .andExpect(jsonPath("$.items[*].username", contains("replicauser")));
+    }
+
+    private Cookie createUser() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\": \"routeduser\", \"fullName\": \"Routed User\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().maxAge(ReadYourWrites.COOKIE, (int) Duration.ofHours(1).toSeconds()))
+                .andReturn().getResponse();
+        createdUserId = objectMapper.readTree(response.getContentAsString()).get("id").asLong();
+        Cookie lastWrite = response.getCookie(ReadYourWrites.COOKIE);
+        assertNotNull(lastWrite);
+        return lastWrite;
+    }
+
+    private ResultActions getAllUsers(Cookie lastWrite) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/users")
+                .param("size", "500")
+                .contentType(MediaType.APPLICATION_JSON);
+        if (lastWrite != null) {
+            request.cookie(lastWrite);
+        }
+        return mockMvc.perform(request).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,100 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the routing of read-only transactions to the replica.
+ * The requests send no cookie of a write, so every read-only transaction goes to the replica.
+ * The second-level cache is off, so every read goes to one of the databases.
+ */
+
+@SpringBootTest(properties = {
+        ReplicaDatabases.REPLICA_URL_PROPERTY,
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ReplicaRoutingIT {
+
+    private static final long PRIMARY_USER_ID = 9_000_002L;
+    private static final long TASK_ID = 9_000_001L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private ReplicaDatabases databases;
+
+
+    @BeforeEach
+    public void setUp() {
+        databases = new ReplicaDatabases(primaryDataSource, replicaDataSource);
+        databases.insertUser(databases.primary, PRIMARY_USER_ID, "primaryuser");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        databases.clearReplica();
+        databases.primary.update("DELETE FROM tasks WHERE id = ?", TASK_ID);
+        databases.primary.update("DELETE FROM users WHERE id = ?", PRIMARY_USER_ID);
+    }
+
+    @Test
+    public void getAllUsers_ReadOnlyTransaction_ReadsReplica() throws Exception {
+        mockMvc.perform(get("/api/users").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].username", contains("replicauser")));
+    }
+
+    @Test
+    public void getAllTasks_ReadOnlyTransaction_ReadsReplica() throws Exception {
+        insertTask(databases.replica, 0);
+
+        mockMvc.perform(get("/api/tasks").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].name", contains("Replica bug")));
+    }
+
+    @Test
+    public void updateTask_ReadWriteTransaction_ReturnsETagOfPrimary() throws Exception {
+        // Arrange, the replica lags one update behind the primary
+        insertTask(databases.primary, 1);
+        insertTask(databases.replica, 0);
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/{id}", TASK_ID)
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+    }
+
+    private void insertTask(JdbcTemplate database, long version) {
+        database.update("INSERT INTO tasks (id, version, name, created_at, category, status, user_id, severity)"
+                + " VALUES (?, ?, 'Replica bug', CURRENT_TIMESTAMP, 'BUG', 'OPEN', NULL, 'LOW')", TASK_ID, version);
+    }
+}
@@ -0,0 +1,75 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the per-request SQL statistics and budget, with a budget of a single statement.
+ */
+
+@SpringBootTest(properties = "task-management.sql-budget.statements=1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@ExtendWith(OutputCaptureExtension.class)
+public class RequestSqlFilterIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    public void getAllUsers_ReportsStatementsAndRows() throws Exception {
+        // Arrange
+        userService.createUser(new UserCreateRequest("sqluser1", "Sql User 1"));
+        userService.createUser(new UserCreateRequest("sqluser2", "Sql User 2"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(RequestSqlFilter.STATEMENTS_HEADER, not("0")))
+                .andExpect(header().string(RequestSqlFilter.ROWS_HEADER,
+                        matchesPattern("[2-9]|[1-9][0-9]+")))
+                .andExpect(header().string(RequestSqlFilter.SERVER_TIMING_HEADER, startsWith("db;dur=")));
+    }
+
+    @Test
+    public void getTaskById_NotFound_ReportsStatements() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", Long.MAX_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                // The task is looked up in the tasks and then in the archive
+                .andExpect(header().string(RequestSqlFilter.STATEMENTS_HEADER, "2"))
+                .andExpect(header().string(RequestSqlFilter.ROWS_HEADER, "0"));
+    }
+
+    @Test
+    public void getAllUsers_OverBudget_LogsStatements(CapturedOutput output) throws Exception {
+        mockMvc.perform(get("/api/users")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        assertTrue(output.getOut().contains("GET /api/users exceeded the SQL budget"));
+        assertTrue(output.getOut().contains("from users"));
+    }
+}
@@ -0,0 +1,185 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.FeatureTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.repository.ArchivedTaskRepository;
+import com.jumpsoft.taskmanagement.repository.TaskRepository;
+import com.jumpsoft.taskmanagement.service.TaskArchiveService;
+import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.UserDeletionService;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the archival of done tasks.
+ * Every batch is committed by its own transaction, so these tests commit their data and remove it afterwards.
+ * A batch holds two tasks, so the three done tasks are archived by two batches.
+ */
+
+@SpringBootTest(properties = "task-management.task-archive.batch-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskArchiveIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDeletionService userDeletionService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    private User createdUser;
+    private Task openTask;
+    private List<Task> doneTasks;
+
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        createdUser = userService.createUser(new UserCreateRequest("archiveuser", "Archive User"));
+        openTask = taskService.createTask(new BugTaskCreateRequest("Open archive bug", null, TaskStatus.OPEN,
+                null, BugSeverity.LOW, createdUser.id()));
+        doneTasks = new ArrayList<>();
+        doneTasks.add(taskService.createTask(new BugTaskCreateRequest("Done archive bug", "Old bug", TaskStatus.DONE,
+                "Open the page", BugSeverity.HIGH, createdUser.id())));
+        doneTasks.add(taskService.createTask(new FeatureTaskCreateRequest("Done archive feature", null, TaskStatus.DONE,
+                "Archived value", LocalDate.now(), createdUser.id())));
+        doneTasks.add(taskService.createTask(new BugTaskCreateRequest("Done archive bug 2", null, TaskStatus.DONE,
+                null, BugSeverity.LOW, createdUser.id())));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        for (Task task : doneTasks) {
+            if (taskRepository.existsById(task.getId())) {
+                taskService.deleteTask(task.getId());
+            }
+        }
+        archivedTaskRepository.deleteAllByIdInBatch(doneTasks.stream().map(Task::getId).toList());
+        taskService.deleteTask(openTask.getId());
+        UserDeletions.deleteUser(userDeletionService, createdUser.id());
+    }
+
+    @Test
+    public void archiveTasks_DoneTasksCreatedBeforeCutoff_MovesThemToArchive() throws Exception {
+        taskArchiveService.archiveTasks(LocalDateTime.now().plusSeconds(1));
+
+        for (Task task : doneTasks) {
+            assertFalse(taskRepository.existsById(task.getId()));
+            assertTrue(archivedTaskRepository.existsById(task.getId()));
+        }
+        assertTrue(taskRepository.existsById(openTask.getId()));
+        assertFalse(archivedTaskRepository.existsById(openTask.getId()));
+    }
+
+    @Test
+    public void archiveTasks_DoneTasksCreatedAfterCutoff_KeepsThem() throws Exception {
+        taskArchiveService.archiveTasks(LocalDateTime.now().minusDays(1));
+
+        for (Task task : doneTasks) {
+            assertTrue(taskRepository.existsById(task.getId()));
+            assertFalse(archivedTaskRepository.existsById(task.getId()));
+        }
+    }
+
+    @Test
+    public void getTaskById_ArchivedTask_ReturnsItFromArchive() throws Exception {
+        taskArchiveService.archiveTasks(LocalDateTime.now().plusSeconds(1));
+
+        mockMvc.perform(get("/api/tasks/{id}", doneTasks.get(0).getId()).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.name", is("Done archive bug")))
+                .andExpect(jsonPath("$.status", is("DONE")))
+                .andExpect(jsonPath("$.reproduceSteps", is("Open the page")))
+                .andExpect(jsonPath("$.user.id", is(createdUser.id().intValue())));
+        mockMvc.perform(get("/api/tasks/{id}", doneTasks.get(1).getId()).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.businessValue", is("Archived value")));
+        mockMvc.perform(delete("/api/tasks/{id}", doneTasks.get(0).getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void searchTasks_WithArchivedFlag_SearchesArchiveInsteadOfTasks() throws Exception {
+        taskArchiveService.archiveTasks(LocalDateTime.now().plusSeconds(1));
+        String filter = "{\"userId\": " + createdUser.id() + "}";
+        String archivedFilter = "{\"userId\": " + createdUser.id() + ", \"archived\": true, \"text\": \"ARCHIVE bug\"}";
+
+        mockMvc.perform(post("/api/tasks/search").contentType(MediaType.APPLICATION_JSON).content(filter))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id", contains(openTask.getId().intValue())));
+        String nextCursor = mockMvc.perform(post("/api/tasks/search").param("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON).content(archivedFilter))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id", contains(doneTasks.get(0).getId().intValue())))
+                .andExpect(jsonPath("$.nextCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString().replaceAll(".*\"nextCursor\":\"([^\"]+)\".*", "$1");
+        mockMvc.perform(post("/api/tasks/search").param("size", "1").param("cursor", nextCursor)
+                        .contentType(MediaType.APPLICATION_JSON).content(archivedFilter))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id", contains(doneTasks.get(2).getId().intValue())))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    public void searchTasks_WithOnlyArchivedFlag_SearchesWholeArchive() throws Exception {
+        taskArchiveService.archiveTasks(LocalDateTime.now().plusSeconds(1));
+
+        mockMvc.perform(post("/api/tasks/search").param("size", "500")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"archived\": true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id", hasItems(doneTasks.stream()
+                        .map(task -> task.getId().intValue()).toArray(Integer[]::new))));
+        mockMvc.perform(delete("/api/tasks").param("archived", "true"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorItems[0].code", is("ARCHIVED_TASKS_READ_ONLY")));
+    }
+
+    @Test
+    public void deleteTasks_WithArchivedFlag_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(delete("/api/tasks")
+                        .param("userId", createdUser.id().toString())
+                        .param("archived", "true"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorItems[0].code", is("ARCHIVED_TASKS_READ_ONLY")));
+    }
+}
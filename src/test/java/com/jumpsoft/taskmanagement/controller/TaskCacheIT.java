@@ -0,0 +1,160 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.task.TaskStatusUpdateRequest;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.UserDeletionService;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the second-level cache of tasks and users.
+ * The cache is filled only by committed transactions, so these tests commit their data and remove it afterwards.
+ * Reads from the replica never fill the cache, so these tests run without a replica, see {@link ReplicaCacheIT}.
+ */
+
+@SpringBootTest(properties = "task-management.replica.url=")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskCacheIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDeletionService userDeletionService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User createdUser;
+    private Task createdTask;
+
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        createdUser = userService.createUser(new UserCreateRequest("cacheuser", "Cache User"));
+        createdTask = taskService.createTask(new BugTaskCreateRequest("Cached bug", null, TaskStatus.OPEN,
+                null, BugSeverity.HIGH, createdUser.id()));
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (taskService.findTaskById(createdTask.getId()).isPresent()) {
+            taskService.deleteTask(createdTask.getId());
+        }
+        if (userService.findUserById(createdUser.id()).isPresent()) {
+            UserDeletions.deleteUser(userDeletionService, createdUser.id());
+        }
+    }
+
+    @Test
+    public void getTaskById_SecondRead_IsServedFromCache() throws Exception {
+        // Arrange
+        getTask();
+        statistics.clear();
+
+        // Act
+        getTask().andExpect(jsonPath("$.user.username", is("cacheuser")));
+
+        // Assert
+        assertEquals(0, statistics.getPrepareStatementCount());
+        // The version tag and the task are read by separate transactions, each reads the task and its user
+        assertEquals(4, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    public void deleteUser_ReassignsCachedTasks_TaskIsReadWithoutUser() throws Exception {
+        // Arrange
+        getTask().andExpect(jsonPath("$.user.id", is(createdUser.id().intValue())));
+
+        // Act
+        UserDeletions.deleteUser(userDeletionService, createdUser.id());
+
+        // Assert
+        getTask().andExpect(jsonPath("$.user", nullValue()));
+    }
+
+    @Test
+    public void updateTaskStatus_OfCachedTask_TaskIsReadWithNewStatus() throws Exception {
+        // Arrange
+        getTask().andExpect(jsonPath("$.status", is("OPEN")));
+
+        // Act
+        taskService.updateTaskStatus(new TaskStatusUpdateRequest(TaskStatus.DONE, List.of(createdTask.getId()), null));
+
+        // Assert
+        getTask().andExpect(jsonPath("$.status", is("DONE")))
+                .andExpect(header().string("ETag", startsWith("\"1-")));
+    }
+
+    @Test
+    public void deleteTask_OfCachedTask_TaskIsNotFound() throws Exception {
+        // Arrange
+        getTask();
+
+        // Act
+        taskService.deleteTask(createdTask.getId());
+
+        // Assert
+        mockMvc.perform(get("/api/tasks/{id}", createdTask.getId())
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void metrics_AfterCachedRead_ReportsHits() throws Exception {
+        // Arrange
+        getTask();
+        getTask();
+
+        // Act & Assert
+        mockMvc.perform(get("/actuator/metrics/cache.gets")
+                .param("tag", "cache:tasks", "result:hit"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value", greaterThanOrEqualTo(1.0)));
+    }
+
+    private ResultActions getTask() throws Exception {
+        return mockMvc.perform(get("/api/tasks/{id}", createdTask.getId())
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+}
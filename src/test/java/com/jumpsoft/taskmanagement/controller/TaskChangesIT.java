@@ -0,0 +1,186 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.task.TaskStatusUpdateRequest;
+import com.jumpsoft.taskmanagement.dto.task.TaskUpdateRequest;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.repository.CapturingStatementInspector;
+import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.UserDeletionService;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the delta sync of tasks.
+ * Change sequences are stamped when a transaction commits, so these tests commit their data and remove it afterwards.
+ * Every test starts from the token of a full sync, so it only sees its own changes.
+ */
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskChangesIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDeletionService userDeletionService;
+
+    @Autowired
+    private TaskService taskService;
+
+    private User createdUser;
+    private List<Task> createdTasks;
+    private String token;
+
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        createdUser = userService.createUser(new UserCreateRequest("changesuser", "Changes User"));
+        createdTasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            createdTasks.add(taskService.createTask(new BugTaskCreateRequest("Changes bug " + i, null, TaskStatus.OPEN,
+                    null, BugSeverity.LOW, createdUser.id())));
+        }
+        JsonNode changes;
+        do {
+            changes = getChanges(token, 500);
+            token = changes.get("token").asText();
+        } while (changes.get("hasMore").asBoolean());
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        for (Task task : createdTasks) {
+            if (taskService.findTaskById(task.getId()).isPresent()) {
+                taskService.deleteTask(task.getId());
+            }
+        }
+        UserDeletions.deleteUser(userDeletionService, createdUser.id());
+    }
+
+    @Test
+    public void getTaskChanges_AfterFullSync_ReturnsNothing() throws Exception {
+        JsonNode changes = getChanges(token, null);
+
+        assertEquals(0, changes.get("changed").size());
+        assertEquals(0, changes.get("deleted").size());
+        assertEquals(token, changes.get("token").asText());
+        assertFalse(changes.get("hasMore").asBoolean());
+    }
+
+    @Test
+    public void getTaskChanges_AfterChanges_ReturnsChangedTasksAndTombstones() throws Exception {
+        taskService.updateTask(createdTasks.get(0).getId(),
+                new TaskUpdateRequest(null, null, TaskStatus.DONE, null, null, null, null, null), invalid -> { });
+        taskService.deleteTask(createdTasks.get(1).getId());
+        Task created = taskService.createTask(new BugTaskCreateRequest("Changes bug", null, TaskStatus.OPEN,
+                null, BugSeverity.LOW, createdUser.id()));
+        createdTasks.add(created);
+
+        JsonNode changes = getChanges(token, null);
+
+        assertEquals(2, changes.get("changed").size());
+        assertEquals(createdTasks.get(0).getId(), changes.get("changed").get(0).get("id").asLong());
+        assertEquals("DONE", changes.get("changed").get(0).get("status").asText());
+        assertEquals(created.getId(), changes.get("changed").get(1).get("id").asLong());
+        assertEquals(1, changes.get("deleted").size());
+        assertEquals(createdTasks.get(1).getId(), changes.get("deleted").get(0).asLong());
+        assertFalse(changes.get("hasMore").asBoolean());
+        assertEquals(0, getChanges(changes.get("token").asText(), null).get("changed").size());
+    }
+
+    @Test
+    public void getTaskChanges_BulkChangeLargerThanSize_ContinuesWithinCommit() throws Exception {
+        taskService.updateTaskStatus(new TaskStatusUpdateRequest(TaskStatus.IN_PROGRESS,
+                createdTasks.stream().map(Task::getId).toList(), null));
+
+        List<Long> changedIds = new ArrayList<>();
+        JsonNode changes = getChanges(token, 2);
+        assertTrue(changes.get("hasMore").asBoolean());
+        changes.get("changed").forEach(task -> changedIds.add(task.get("id").asLong()));
+        changes = getChanges(changes.get("token").asText(), 2);
+        assertFalse(changes.get("hasMore").asBoolean());
+        changes.get("changed").forEach(task -> changedIds.add(task.get("id").asLong()));
+
+        assertEquals(createdTasks.stream().map(Task::getId).toList(), changedIds);
+    }
+
+    @Test
+    public void getTaskChanges_CommitsBetweenReads_AreReturnedByNextSync() throws Exception {
+        // Arrange, a change and a later deletion commit after the changed tasks were read, before the tombstones
+        Task changedTask = createdTasks.get(0);
+        Task deletedTask = createdTasks.get(1);
+        CapturingStatementInspector.beforeStatement(" from task_tombstones ", () -> CompletableFuture.runAsync(() -> {
+            try {
+                taskService.updateTask(changedTask.getId(),
+                        new TaskUpdateRequest(null, null, TaskStatus.DONE, null, null, null, null, null), invalid -> { });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            taskService.deleteTask(deletedTask.getId());
+        }).join());
+
+        // Act
+        JsonNode changes = getChanges(token, null);
+        JsonNode next = getChanges(changes.get("token").asText(), null);
+
+        // Assert
+        assertEquals(0, changes.get("changed").size() + changes.get("deleted").size());
+        assertEquals(1, next.get("changed").size());
+        assertEquals(changedTask.getId(), next.get("changed").get(0).get("id").asLong());
+        assertEquals(1, next.get("deleted").size());
+        assertEquals(deletedTask.getId(), next.get("deleted").get(0).asLong());
+    }
+
+    @Test
+    public void getTaskChanges_WithInvalidToken_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/tasks/changes").param("since", "not-a-token"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorItems[0].code", is("INVALID_CHANGE_TOKEN")));
+    }
+
+    private JsonNode getChanges(String since, Integer size) throws Exception {
+        String content = mockMvc.perform(get("/api/tasks/changes")
+                        .param("since", since == null ? "" : since)
+                        .param("size", size == null ? "" : size.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(content);
+    }
+}
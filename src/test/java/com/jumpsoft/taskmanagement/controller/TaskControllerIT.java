@@ -0,0 +1,433 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.jumpsoft.taskmanagement.dto.TaskFilter;
+import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.FeatureTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.task.TaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.TaskStatusUpdateRequest;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for TaskController.
+ * Tests the paged list and search endpoints.
+ */
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class TaskControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    private User createdUser;
+    private List<Task> createdTasks;
+
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        createdUser = userService.createUser(new UserCreateRequest("taskuser", "Task User"));
+
+        // Create three tasks to page through
+        createdTasks = new ArrayList<>();
+        createdTasks.add(taskService.createTask(new BugTaskCreateRequest("Bug 1", "First bug", TaskStatus.OPEN,
+                "Open the page", BugSeverity.HIGH, createdUser.id())));
+        createdTasks.add(taskService.createTask(new FeatureTaskCreateRequest("Feature 1", "First feature", TaskStatus.OPEN,
+                "Happy users", LocalDate.now().plusDays(30), createdUser.id())));
+        createdTasks.add(taskService.createTask(new BugTaskCreateRequest("Bug 2", "Second bug", TaskStatus.DONE,
+                "Close the page", BugSeverity.LOW, createdUser.id())));
+    }
+
+    @Test
+    public void getAllTasks_WithoutCursor_ReturnsFirstPage() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                .param("size", "2")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", is(createdTasks.get(0).getId().intValue())))
+                .andExpect(jsonPath("$.items[0].category", is("BUG")))
+                .andExpect(jsonPath("$.items[0].reproduceSteps", is("Open the page")))
+                .andExpect(jsonPath("$.items[0].severity", is("HIGH")))
+                .andExpect(jsonPath("$.items[0].user.username", is("taskuser")))
+                .andExpect(jsonPath("$.items[1].id", is(createdTasks.get(1).getId().intValue())))
+                .andExpect(jsonPath("$.items[1].category", is("FEATURE")))
+                .andExpect(jsonPath("$.items[1].businessValue", is("Happy users")))
+                .andExpect(jsonPath("$.items[1].deadline", is(LocalDate.now().plusDays(30).toString())))
+                .andExpect(jsonPath("$.nextCursor", notNullValue()));
+    }
+
+    @Test
+    public void getAllTasks_WithCursor_ReturnsNextPage() throws Exception {
+        // Arrange
+        String cursor = nextCursor(get("/api/tasks").param("size", "2"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                .param("size", "2")
+                .param("cursor", cursor)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is(createdTasks.get(2).getId().intValue())))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    public void getAllTasks_SortedByCreatedAt_ReturnsNextPage() throws Exception {
+        // Arrange
+        String cursor = nextCursor(get("/api/tasks").param("size", "1").param("sort", "CREATED_AT"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                .param("size", "1")
+                .param("sort", "CREATED_AT")
+                .param("cursor", cursor)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is(createdTasks.get(1).getId().intValue())))
+                .andExpect(jsonPath("$.nextCursor", notNullValue()));
+    }
+
+    @Test
+    public void getAllTasks_WithCursorOfOtherSort_ReturnsBadRequest() throws Exception {
+        // Arrange
+        String cursor = nextCursor(get("/api/tasks").param("size", "1"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                .param("sort", "CREATED_AT")
+                .param("cursor", cursor)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorItems[0].code", is("INVALID_CURSOR")));
+    }
+
+    @Test
+    public void searchTasks_WithCursor_ReturnsFilteredPages() throws Exception {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder().status(TaskStatus.OPEN).userId(createdUser.id()).build();
+        String cursor = nextCursor(post("/api/tasks/search")
+                .param("size", "1")
+                .content(objectMapper.writeValueAsString(filter)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/search")
+                .param("size", "1")
+                .param("cursor", cursor)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(filter)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is(createdTasks.get(1).getId().intValue())))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    public void searchTasks_WithSeverityAndDescendingSort_ReturnsMatchingBugs() throws Exception {
+        // Arrange
+        createdTasks.add(taskService.createTask(new BugTaskCreateRequest("Bug 3", "Third bug", TaskStatus.OPEN,
+                null, BugSeverity.HIGH, createdUser.id())));
+        TaskFilter filter = TaskFilter.builder().severity(BugSeverity.HIGH).userId(createdUser.id()).build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/search")
+                .param("sort", "ID_DESC")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(filter)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", is(createdTasks.get(3).getId().intValue())))
+                .andExpect(jsonPath("$.items[1].id", is(createdTasks.get(0).getId().intValue())));
+    }
+
+    @Test
+    public void searchTasks_WithDeadlineRange_ReturnsFeatures() throws Exception {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder()
+                .deadlineFrom(LocalDate.now())
+                .deadlineTo(LocalDate.now().plusDays(30))
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/search")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(filter)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is(createdTasks.get(1).getId().intValue())));
+    }
+
+    @Test
+    public void searchTasks_WithUserIdAndUnassigned_ReturnsBadRequest() throws Exception {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder().userId(createdUser.id()).unassigned(true).build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/search")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(filter)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void searchTasks_WithText_ReturnsPagesRankedByRelevance() throws Exception {
+        // Arrange
+        Task inSteps = taskService.createTask(new BugTaskCreateRequest("Payment fails", null, TaskStatus.OPEN,
+                "Open the Checkout", BugSeverity.HIGH, createdUser.id()));
+        Task inName = taskService.createTask(new BugTaskCreateRequest("Checkout crashes", "Blank page", TaskStatus.OPEN,
+                null, BugSeverity.HIGH, createdUser.id()));
+        Task inDescription = taskService.createTask(new FeatureTaskCreateRequest("Coupons", "Discounts at checkout",
+                TaskStatus.OPEN, "Sales", LocalDate.now().plusDays(30), createdUser.id()));
+        TaskFilter filter = TaskFilter.builder().text("checkout").build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/search")
+                .param("size", "2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(filter)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id", contains(inName.getId().intValue(), inDescription.getId().intValue())));
+
+        String cursor = nextCursor(post("/api/tasks/search")
+                .param("size", "2")
+                .content(objectMapper.writeValueAsString(filter)));
+        mockMvc.perform(post("/api/tasks/search")
+                .param("size", "2")
+                .param("cursor", cursor)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(filter)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id", contains(inSteps.getId().intValue())))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    public void searchTasks_ByRelevanceWithoutText_ReturnsBadRequest() throws Exception {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder().status(TaskStatus.OPEN).build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/search")
+                .param("sort", "RELEVANCE")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(filter)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorItems[0].code", is("RELEVANCE_WITHOUT_TEXT")));
+    }
+
+    @Test
+    public void exportAllTasks_WithNdjsonAccept_StreamsTasks() throws Exception {
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+    }
+
+    @Test
+    public void exportTasks_WithFilter_WritesOneLinePerTask() throws Exception {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder().status(TaskStatus.OPEN).build();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        taskService.exportTasks(filter, outputStream);
+
+        // Assert
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(createdTasks.get(0).getId().longValue(), objectMapper.readTree(lines[0]).get("id").asLong());
+        assertEquals("BUG", objectMapper.readTree(lines[0]).get("category").asText());
+        assertEquals(createdTasks.get(1).getId().longValue(), objectMapper.readTree(lines[1]).get("id").asLong());
+        assertEquals("FEATURE", objectMapper.readTree(lines[1]).get("category").asText());
+    }
+
+    @Test
+    public void createTasks_WithInvalidItems_CreatesValidAndReportsRejected() throws Exception {
+        // Arrange
+        List<TaskCreateRequest> batch = List.of(
+                new BugTaskCreateRequest("Batch bug", null, TaskStatus.OPEN, null, BugSeverity.MEDIUM, createdUser.id()),
+                new FeatureTaskCreateRequest("Batch feature", null, TaskStatus.OPEN, "Value",
+                        LocalDate.now().plusDays(1), 99999L),
+                new BugTaskCreateRequest(null, null, TaskStatus.OPEN, null, BugSeverity.LOW, createdUser.id()),
+                new FeatureTaskCreateRequest("Second batch feature", null, TaskStatus.IN_PROGRESS, "Value",
+                        LocalDate.now().plusDays(1), createdUser.id()));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writerFor(new TypeReference<List<TaskCreateRequest>>() { }).writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", hasSize(2)))
+                .andExpect(jsonPath("$.created[0].name", is("Batch bug")))
+                .andExpect(jsonPath("$.created[0].category", is("BUG")))
+                .andExpect(jsonPath("$.created[1].name", is("Second batch feature")))
+                .andExpect(jsonPath("$.created[1].category", is("FEATURE")))
+                .andExpect(jsonPath("$.rejected", hasSize(2)))
+                .andExpect(jsonPath("$.rejected[0].index", is(1)))
+                .andExpect(jsonPath("$.rejected[0].errorItems[0].code", is("USER_WITH_ID_NOT_FOUND")))
+                .andExpect(jsonPath("$.rejected[1].index", is(2)))
+                .andExpect(jsonPath("$.rejected[1].errorItems[0].field", is("name")));
+    }
+
+    @Test
+    public void updateTaskStatus_WithFilter_MovesMatchingTasks() throws Exception {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder().userId(createdUser.id()).status(TaskStatus.OPEN).build();
+
+        // Act
+        mockMvc.perform(post("/api/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskStatusUpdateRequest(TaskStatus.DONE, null, filter))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated", is(2)));
+
+        // Assert
+        mockMvc.perform(post("/api/tasks/search")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        TaskFilter.builder().userId(createdUser.id()).status(TaskStatus.DONE).build())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(3)));
+    }
+
+    @Test
+    public void updateTaskStatus_WithSeverityFilter_MovesOnlyMatchingBugs() throws Exception {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder().userId(createdUser.id()).severity(BugSeverity.HIGH).build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskStatusUpdateRequest(TaskStatus.IN_PROGRESS, null, filter))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated", is(1)));
+        mockMvc.perform(get("/api/tasks/{id}", createdTasks.get(0).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("IN_PROGRESS")));
+        mockMvc.perform(get("/api/tasks/{id}", createdTasks.get(1).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("OPEN")));
+    }
+
+    @Test
+    public void updateTaskStatus_WithIds_SkipsTasksAlreadyInStatus() throws Exception {
+        // Arrange
+        List<Long> ids = createdTasks.stream().map(Task::getId).toList();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskStatusUpdateRequest(TaskStatus.DONE, ids, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated", is(2)));
+    }
+
+    @Test
+    public void updateTaskStatus_WithIdsAndFilter_ReturnsBadRequest() throws Exception {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder().status(TaskStatus.OPEN).build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new TaskStatusUpdateRequest(TaskStatus.DONE, List.of(createdTasks.get(0).getId()), filter))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorItems[0].code", is("INVALID_STATUS_UPDATE_TARGET")));
+    }
+
+    @Test
+    public void deleteTasks_WithFilter_DeletesMatchingTasks() throws Exception {
+        // Act
+        mockMvc.perform(delete("/api/tasks")
+                .param("userId", createdUser.id().toString())
+                .param("status", "DONE")
+                .param("createdTo", LocalDateTime.now().plusMinutes(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted", is(1)));
+
+        // Assert
+        mockMvc.perform(get("/api/tasks/{id}", createdTasks.get(2).getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/tasks/{id}", createdTasks.get(0).getId()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void deleteTasks_WithoutCriteria_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/api/tasks"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void deleteTask_NotExisting_ReturnsNotFound() throws Exception {
+        // Act
+        mockMvc.perform(delete("/api/tasks/{id}", createdTasks.get(0).getId()))
+                .andExpect(status().isNoContent());
+
+        // Assert
+        mockMvc.perform(delete("/api/tasks/{id}", createdTasks.get(0).getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    private String nextCursor(MockHttpServletRequestBuilder request) throws Exception {
+        String response = mockMvc.perform(request.contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("nextCursor").asText();
+    }
+}
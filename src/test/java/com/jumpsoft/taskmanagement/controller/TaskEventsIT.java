@@ -0,0 +1,182 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.task.TaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.TaskUpdateRequest;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.UserDeletionService;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the task change feed.
+ * Events are pushed after the commit, so these tests commit their data and remove it afterwards.
+ * The buffer of a subscriber holds two events, so a commit of three matching changes drops it,
+ * while a commit of more than three matching changes is pushed as one bulk change.
+ */
+
+@SpringBootTest(properties = {
+        "task-management.task-events.buffer-size=2",
+        "task-management.task-events.max-events-per-commit=3"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskEventsIT {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDeletionService userDeletionService;
+
+    @Autowired
+    private TaskService taskService;
+
+    private User watchedUser;
+    private User otherUser;
+    private List<Task> createdTasks;
+    private MvcResult subscription;
+
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        watchedUser = userService.createUser(new UserCreateRequest("eventsuser", "Events User"));
+        otherUser = userService.createUser(new UserCreateRequest("othereventsuser", "Other Events User"));
+        createdTasks = new ArrayList<>();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (subscription != null) {
+            subscription.getRequest().getAsyncContext().complete();
+        }
+        for (Task task : createdTasks) {
+            if (taskService.findTaskById(task.getId()).isPresent()) {
+                taskService.deleteTask(task.getId());
+            }
+        }
+        UserDeletions.deleteUser(userDeletionService, watchedUser.id());
+        UserDeletions.deleteUser(userDeletionService, otherUser.id());
+    }
+
+    @Test
+    public void subscribe_FilteredByUser_ReceivesOnlyChangesOfUser() throws Exception {
+        subscription = subscribe("userId", watchedUser.id().toString());
+
+        Task other = createTask(otherUser, TaskStatus.OPEN);
+        Task watched = createTask(watchedUser, TaskStatus.OPEN);
+        taskService.deleteTask(watched.getId());
+
+        String content = awaitContent("event:DELETED");
+        assertTrue(content.contains("event:CREATED"), content);
+        assertTrue(content.contains("\"taskId\":" + watched.getId() + ","), content);
+        assertFalse(content.contains("\"taskId\":" + other.getId() + ","), content);
+    }
+
+    @Test
+    public void subscribe_FilteredByStatus_ReceivesTasksMovedIntoStatus() throws Exception {
+        subscription = subscribe("status", TaskStatus.DONE.name());
+
+        Task open = createTask(watchedUser, TaskStatus.OPEN);
+        Task done = createTask(watchedUser, TaskStatus.OPEN);
+        taskService.updateTask(done.getId(),
+                new TaskUpdateRequest(null, null, TaskStatus.DONE, null, null, null, null, null), invalid -> { });
+
+        String content = awaitContent("event:UPDATED");
+        assertTrue(content.contains("\"previousStatus\":\"OPEN\""), content);
+        assertFalse(content.contains("event:CREATED"), content);
+        assertFalse(content.contains("\"taskId\":" + open.getId() + ","), content);
+    }
+
+    @Test
+    public void subscribe_CommitExceedingBuffer_DropsSubscriber() throws Exception {
+        subscription = subscribe("userId", watchedUser.id().toString());
+
+        createdTasks.addAll(taskService.createTasks(batchOf(3)).created());
+
+        String content = awaitContent("event:DROPPED");
+        assertFalse(content.contains("event:CREATED"), content);
+    }
+
+    @Test
+    public void subscribe_BatchExceedingBuffer_ReceivesBulkChangeAndStaysConnected() throws Exception {
+        subscription = mockMvc.perform(get("/api/tasks/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        createdTasks.addAll(taskService.createTasks(batchOf(4)).created());
+        awaitContent("event:BULK_CHANGED");
+        Task next = createTask(watchedUser, TaskStatus.OPEN);
+
+        String content = awaitContent("\"taskId\":" + next.getId() + ",");
+        assertTrue(content.contains("event:CREATED"), content);
+        assertFalse(content.contains("event:DROPPED"), content);
+    }
+
+    private List<TaskCreateRequest> batchOf(int size) {
+        List<TaskCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            requests.add(new BugTaskCreateRequest("Events bug " + i, null, TaskStatus.OPEN, null, BugSeverity.LOW,
+                    watchedUser.id()));
+        }
+        return requests;
+    }
+
+    private MvcResult subscribe(String name, String value) throws Exception {
+        return mockMvc.perform(get("/api/tasks/events").param(name, value).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private Task createTask(User user, TaskStatus status) throws Exception {
+        Task task = taskService.createTask(new BugTaskCreateRequest("Events bug", null, status, null,
+                BugSeverity.LOW, user.id()));
+        createdTasks.add(task);
+        return task;
+    }
+
+    /**
+     * Waits for the event until it is written completely, events end with an empty line.
+     */
+    private String awaitContent(String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        String content = subscription.getResponse().getContentAsString();
+        while (!content.contains(expected) || !content.endsWith("\n\n")) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("No " + expected + " in the stream: " + content);
+            }
+            Thread.sleep(20);
+            content = subscription.getResponse().getContentAsString();
+        }
+        return content;
+    }
+}
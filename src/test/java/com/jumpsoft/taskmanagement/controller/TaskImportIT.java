@@ -0,0 +1,122 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.jumpsoft.taskmanagement.dto.TaskFilter;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.enums.TaskImportFormat;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the import of tasks from CSV and NDJSON files.
+ * Batches hold two tasks, so every import is written by several of them.
+ */
+
+@SpringBootTest(properties = "task-management.task-import.batch-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class TaskImportIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    private User createdUser;
+
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        createdUser = userService.createUser(new UserCreateRequest("importuser", "Import User"));
+    }
+
+    @Test
+    public void importTasks_Csv_ImportsValidRowsAndReportsRejected() throws Exception {
+        // Arrange
+        String csv = """
+                category,name,description,status,reproduceSteps,severity,businessValue,deadline,userId
+                BUG,Bug 1,"Crashes, then ""hangs""\",OPEN,Open the page,HIGH,,,%1$d
+                FEATURE,Feature 1,,IN_PROGRESS,,,Happy users,2030-01-01,%1$d
+                BUG,Bug 2,,OPEN,,,,,%1$d
+                BUG,Bug 3,,OPEN,,LOW,,,999999
+                BUG,Bug 4,,NOT_A_STATUS,,LOW,,,%1$d
+                FEATURE,Feature 2,"Two
+                lines",DONE,,,Value,2030-01-01,%1$d
+                """.formatted(createdUser.id());
+
+        // Act & Assert
+        importTasks(TaskImportFormat.TEXT_CSV_VALUE, csv)
+                .andExpect(jsonPath("$.imported", is(3)))
+                .andExpect(jsonPath("$.rejectedCount", is(3)))
+                .andExpect(jsonPath("$.rejected[0].index", is(2)))
+                .andExpect(jsonPath("$.rejected[0].errorItems[0].field", is("severity")))
+                .andExpect(jsonPath("$.rejected[1].index", is(3)))
+                .andExpect(jsonPath("$.rejected[1].errorItems[0].code", is("USER_WITH_ID_NOT_FOUND")))
+                .andExpect(jsonPath("$.rejected[2].index", is(4)))
+                .andExpect(jsonPath("$.rejected[2].errorItems[0].code", is("IMPORT_ROW_UNREADABLE")));
+        searchByUser()
+                .andExpect(jsonPath("$.items", hasSize(3)))
+                .andExpect(jsonPath("$.items[0].description", is("Crashes, then \"hangs\"")))
+                .andExpect(jsonPath("$.items[0].severity", is("HIGH")))
+                .andExpect(jsonPath("$.items[1].deadline", is("2030-01-01")))
+                .andExpect(jsonPath("$.items[2].description", is("Two\nlines")));
+    }
+
+    @Test
+    public void importTasks_NdjsonWithMalformedLine_ImportsRowsBeforeIt() throws Exception {
+        // Arrange
+        String ndjson = """
+                {"category": "BUG", "name": "Bug 1", "status": "OPEN", "severity": "LOW", "userId": %1$d}
+                {"category": "EPIC", "name": "Epic 1", "status": "OPEN", "userId": %1$d}
+                {"category": "FEATURE", "name": "Feature 1", "status": "OPEN", "businessValue": "Value", "deadline": "2030-01-01", "userId": %1$d}
+                {"category": "BUG", "name":
+                {"category": "BUG", "name": "Bug 2", "status": "OPEN", "severity": "LOW", "userId": %1$d}
+                """.formatted(createdUser.id());
+
+        // Act & Assert
+        importTasks(MediaType.APPLICATION_NDJSON_VALUE, ndjson)
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.rejectedCount", is(2)))
+                .andExpect(jsonPath("$.rejected[0].index", is(1)))
+                .andExpect(jsonPath("$.rejected[0].errorItems[0].code", is("IMPORT_ROW_UNREADABLE")))
+                .andExpect(jsonPath("$.rejected[1].index", is(3)))
+                .andExpect(jsonPath("$.rejected[1].errorItems[0].code", is("IMPORT_MALFORMED")));
+        searchByUser()
+                .andExpect(jsonPath("$.items", hasSize(2)));
+    }
+
+    private ResultActions importTasks(String contentType, String content) throws Exception {
+        return mockMvc.perform(post("/api/tasks/import")
+                .contentType(contentType)
+                .content(content))
+                .andExpect(status().isOk());
+    }
+
+    private ResultActions searchByUser() throws Exception {
+        return mockMvc.perform(post("/api/tasks/search")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TaskFilter.builder().userId(createdUser.id()).build())))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,161 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.jumpsoft.taskmanagement.dto.TaskFilter;
+import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.FeatureTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests guarding the number of SQL statements of the task read paths and of the deletion of a task.
+ * Tasks are assigned to several users, so loading the users one by one makes the tests fail.
+ */
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class TaskStatementCountIT {
+
+    private static final int USER_COUNT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Task createdTask;
+
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = userService.createUser(new UserCreateRequest("countuser" + i, "Count User " + i));
+            createdTask = taskService.createTask(new BugTaskCreateRequest("Bug " + i, null, TaskStatus.OPEN,
+                    null, BugSeverity.HIGH, user.id()));
+            taskService.createTask(new FeatureTaskCreateRequest("Feature " + i, null, TaskStatus.OPEN,
+                    "Value", LocalDate.now().plusDays(30), user.id()));
+        }
+
+        // Start from an empty persistence context and second-level cache, otherwise the users would be served from them
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void getAllTasks_LoadsUsersInSameStatement() throws Exception {
+        perform(get("/api/tasks"))
+                .andExpect(jsonPath("$.items", hasSize(USER_COUNT * 2)));
+
+        // Change marker of the ETag and the page
+        assertStatementCountAtMost(2);
+    }
+
+    @Test
+    public void getAllTasks_SortedByCreatedAt_LoadsUsersInSameStatement() throws Exception {
+        perform(get("/api/tasks").param("sort", "CREATED_AT"))
+                .andExpect(jsonPath("$.items", hasSize(USER_COUNT * 2)));
+
+        // Change marker of the ETag and the page
+        assertStatementCountAtMost(2);
+    }
+
+    @Test
+    public void searchTasks_LoadsUsersInSameStatement() throws Exception {
+        TaskFilter filter = TaskFilter.builder().status(TaskStatus.OPEN).build();
+
+        perform(post("/api/tasks/search").content(objectMapper.writeValueAsString(filter)))
+                .andExpect(jsonPath("$.items", hasSize(USER_COUNT * 2)));
+
+        assertStatementCountAtMost(1);
+    }
+
+    @Test
+    public void getTaskById_WithColdCache_LoadsTaskAndUserByKey() throws Exception {
+        // Task and user are read by primary key so warm reads come from the second-level cache, see TaskCacheIT
+        perform(get("/api/tasks/{id}", createdTask.getId()))
+                .andExpect(jsonPath("$.user.username", notNullValue()));
+
+        assertStatementCountAtMost(2);
+    }
+
+    @Test
+    public void getAllUsers_LoadsPageInSingleStatement() throws Exception {
+        perform(get("/api/users"))
+                .andExpect(jsonPath("$.items", hasSize(greaterThanOrEqualTo(USER_COUNT))));
+
+        // Change marker of the ETag and the page
+        assertStatementCountAtMost(2);
+    }
+
+    @Test
+    public void exportTasks_LoadsUsersInSameStatement() throws Exception {
+        taskService.exportTasks(null, new ByteArrayOutputStream());
+
+        assertStatementCountAtMost(1);
+    }
+
+    @Test
+    public void deleteTask_DeletesWithoutLoading() throws Exception {
+        mockMvc.perform(delete("/api/tasks/{id}", createdTask.getId()))
+                .andExpect(status().isNoContent());
+
+        // Counts and change marker are written when the transaction commits
+        assertStatementCountAtMost(1);
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    private void assertStatementCountAtMost(long expected) {
+        long actual = statistics.getPrepareStatementCount();
+        assertTrue(actual <= expected, "Expected at most " + expected + " SQL statements but " + actual + " were executed");
+    }
+}
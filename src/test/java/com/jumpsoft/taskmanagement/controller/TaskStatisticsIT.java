@@ -0,0 +1,195 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.FeatureTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.task.TaskStatusUpdateRequest;
+import com.jumpsoft.taskmanagement.dto.task.TaskUpdateRequest;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.UserDeletionService;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the task statistics endpoint.
+ * The counts are adjusted when a transaction commits, so these tests commit their data, remove it afterwards
+ * and compare the statistics with those read before the change.
+ * Tasks are deleted by filter one per transaction, so the counts of every batch are checked.
+ */
+
+@SpringBootTest(properties = "task-management.task-deletion.batch-size=1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskStatisticsIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDeletionService userDeletionService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User createdUser;
+    private List<Task> createdTasks;
+    private JsonNode before;
+
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        before = getStatistics();
+        createdUser = userService.createUser(new UserCreateRequest("statsuser", "Stats User"));
+        createdTasks = new ArrayList<>();
+        createdTasks.add(taskService.createTask(new BugTaskCreateRequest("Stats bug", null, TaskStatus.OPEN,
+                null, BugSeverity.CRITICAL, createdUser.id())));
+        createdTasks.add(taskService.createTask(new FeatureTaskCreateRequest("Stats feature", null, TaskStatus.IN_PROGRESS,
+                "Value", LocalDate.now().plusDays(30), createdUser.id())));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        for (Task task : createdTasks) {
+            if (taskService.findTaskById(task.getId()).isPresent()) {
+                taskService.deleteTask(task.getId());
+            }
+        }
+        if (userService.findUserById(createdUser.id()).isPresent()) {
+            UserDeletions.deleteUser(userDeletionService, createdUser.id());
+        }
+        assertEquals(before, getStatistics());
+    }
+
+    @Test
+    public void getStatistics_AfterCreate_CountsTasks() throws Exception {
+        JsonNode after = getStatistics();
+
+        assertEquals(2, after.get("total").asLong() - before.get("total").asLong());
+        assertEquals(1, delta(after, "byStatus", "OPEN"));
+        assertEquals(1, delta(after, "byStatus", "IN_PROGRESS"));
+        assertEquals(1, delta(after, "byCategory", "BUG"));
+        assertEquals(1, delta(after, "byCategory", "FEATURE"));
+        assertEquals(1, delta(after, "bySeverity", "CRITICAL"));
+        assertEquals(2, after.get("byUser").get(createdUser.id().toString()).asLong());
+    }
+
+    @Test
+    public void getStatistics_AfterUpdateAndDelete_MovesCounts() throws Exception {
+        taskService.updateTask(createdTasks.get(0).getId(),
+                new TaskUpdateRequest(null, null, TaskStatus.DONE, null, null, null, null, BugSeverity.LOW), invalid -> { });
+        taskService.deleteTask(createdTasks.get(1).getId());
+
+        JsonNode after = getStatistics();
+
+        assertEquals(1, after.get("total").asLong() - before.get("total").asLong());
+        assertEquals(0, delta(after, "byStatus", "OPEN"));
+        assertEquals(0, delta(after, "byStatus", "IN_PROGRESS"));
+        assertEquals(1, delta(after, "byStatus", "DONE"));
+        assertEquals(0, delta(after, "bySeverity", "CRITICAL"));
+        assertEquals(1, delta(after, "bySeverity", "LOW"));
+        assertEquals(0, delta(after, "byCategory", "FEATURE"));
+        assertEquals(1, after.get("byUser").get(createdUser.id().toString()).asLong());
+    }
+
+    @Test
+    public void getStatistics_AfterStatusUpdate_MovesStatusCounts() throws Exception {
+        taskService.updateTaskStatus(new TaskStatusUpdateRequest(TaskStatus.DONE,
+                createdTasks.stream().map(Task::getId).toList(), null));
+
+        JsonNode after = getStatistics();
+
+        assertEquals(0, delta(after, "byStatus", "OPEN"));
+        assertEquals(0, delta(after, "byStatus", "IN_PROGRESS"));
+        assertEquals(2, delta(after, "byStatus", "DONE"));
+        assertEquals(2, after.get("byUser").get(createdUser.id().toString()).asLong());
+    }
+
+    @Test
+    public void getStatistics_AfterDeletionByFilter_RemovesCounts() throws Exception {
+        mockMvc.perform(delete("/api/tasks").param("userId", createdUser.id().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted", is(2)));
+
+        JsonNode after = getStatistics();
+
+        assertEquals(0, after.get("total").asLong() - before.get("total").asLong());
+        assertEquals(0, delta(after, "byStatus", "OPEN"));
+        assertEquals(0, delta(after, "bySeverity", "CRITICAL"));
+        assertEquals(0, delta(after, "byCategory", "FEATURE"));
+        assertFalse(after.get("byUser").has(createdUser.id().toString()));
+    }
+
+    @Test
+    public void getStatistics_AfterUserDeletion_CountsTasksAsUnassigned() throws Exception {
+        UserDeletions.deleteUser(userDeletionService, createdUser.id());
+
+        JsonNode after = getStatistics();
+
+        assertEquals(2, after.get("unassigned").asLong() - before.get("unassigned").asLong());
+        assertFalse(after.get("byUser").has(createdUser.id().toString()));
+    }
+
+    @Test
+    public void getStatistics_DoesNotReadTasks() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        getStatistics();
+
+        // Change marker of the ETag and the task counts
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(
+                com.jumpsoft.taskmanagement.entity.Task.class.getName()).getLoadCount());
+    }
+
+    private long delta(JsonNode after, String dimension, String bucket) {
+        return after.get(dimension).get(bucket).asLong() - before.get(dimension).get(bucket).asLong();
+    }
+
+    private JsonNode getStatistics() throws Exception {
+        String response = mockMvc.perform(get("/api/tasks/stats")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+}
@@ -63,10 +63,46 @@ public class UserControllerIT {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$", isA(ArrayList.class)))
-                .andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(1))))
-                .andExpect(jsonPath("$[0].id", notNullValue()))
-                .andExpect(jsonPath("$[0].username", notNullValue()));
+                .andExpect(jsonPath("$.items", isA(ArrayList.class)))
+                .andExpect(jsonPath("$.items", hasSize(greaterThanOrEqualTo(1))))
+                .andExpect(jsonPath("$.items[0].id", notNullValue()))
+                .andExpect(jsonPath("$.items[0].username", notNullValue()));
+    }
+
+    @Test
+    public void getAllUsers_WithCursor_ReturnsNextPage() throws Exception {
+        // Arrange
+        User secondUser = userService.createUser(new UserCreateRequest("testuser2", "Test User 2"));
+
+        // Act
+        String firstPage = mockMvc.perform(get("/api/users")
+                .param("size", "1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is(createdUser.id().intValue())))
+                .andExpect(jsonPath("$.nextCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        // Assert
+        mockMvc.perform(get("/api/users")
+                .param("size", "1")
+                .param("cursor", cursor)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is(secondUser.id().intValue())))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    public void getAllUsers_WithInvalidCursor_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/users")
+                .param("cursor", "not-a-cursor")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -145,16 +181,50 @@ public class UserControllerIT {
     }
 
     @Test
-    public void deleteUser_WhenUserExists_ReturnsNoContent() throws Exception {
+    public void deleteUser_WhenUserExists_ReturnsAcceptedAndHidesUser() throws Exception {
         // Act & Assert
         mockMvc.perform(delete("/api/users/{id}", createdUser.id())
                 .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", matchesPattern(".*/api/users/deletions/\\d+")))
+                .andExpect(jsonPath("$.userId", is(createdUser.id().intValue())))
+                .andExpect(jsonPath("$.status", is("PENDING")));
 
-        // Verify user is deleted
+        // Verify user is hidden while the deletion runs
         mockMvc.perform(get("/api/users/{id}", createdUser.id())
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/users/{id}", createdUser.id())
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void deleteUser_WhileDeleting_UserCannotBeAssigned() throws Exception {
+        // Arrange
+        mockMvc.perform(delete("/api/users/{id}", createdUser.id()))
+                .andExpect(status().isAccepted());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"category": "BUG", "name": "Late bug", "status": "OPEN", "severity": "LOW", "userId": %d}
+                        """.formatted(createdUser.id())))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorItems[0].code", is("USER_WITH_ID_NOT_FOUND")));
+        mockMvc.perform(get("/api/users")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id", not(hasItem(createdUser.id().intValue()))));
+    }
+
+    @Test
+    public void getUserDeletionJob_WhenJobDoesNotExist_ReturnsNotFound() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/users/deletions/{jobId}", 999999L)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
     }
 
 }
\ No newline at end of file
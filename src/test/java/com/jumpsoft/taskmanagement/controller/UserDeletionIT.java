@@ -0,0 +1,206 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.jumpsoft.taskmanagement.dto.task.BugTaskCreateRequest;
+import com.jumpsoft.taskmanagement.dto.task.Task;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.repository.ArchivedTaskRepository;
+import com.jumpsoft.taskmanagement.service.TaskArchiveService;
+import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the background deletion of users.
+ * The job runs after the deleting transaction commits, so these tests commit their data and remove it afterwards.
+ * Chunks of two tasks make the job unassign the tasks of the user in several transactions.
+ */
+
+@SpringBootTest(properties = "task-management.user-deletion.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class UserDeletionIT {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User createdUser;
+    private List<Task> createdTasks;
+    private List<Task> archivedTasks;
+
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        createdUser = userService.createUser(new UserCreateRequest("deletionuser", "Deletion User"));
+        createdTasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            createdTasks.add(taskService.createTask(new BugTaskCreateRequest("Deletion bug " + i, null, TaskStatus.OPEN,
+                    null, BugSeverity.LOW, createdUser.id())));
+        }
+        archivedTasks = new ArrayList<>();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        for (Task task : createdTasks) {
+            taskService.deleteTask(task.getId());
+        }
+        archivedTaskRepository.deleteAllByIdInBatch(archivedTasks.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    public void deleteUser_WithTasks_UnassignsTasksInBackground() throws Exception {
+        // Arrange
+        JsonNode before = getStatistics();
+
+        // Act
+        String location = mockMvc.perform(delete("/api/users/{id}", createdUser.id()))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader("Location");
+        JsonNode job = awaitFinished(location);
+
+        // Assert
+        assertEquals("COMPLETED", job.get("status").asText());
+        assertEquals(5, job.get("unassignedTasks").asLong());
+        for (Task task : createdTasks) {
+            mockMvc.perform(get("/api/tasks/{id}", task.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.user", nullValue()));
+        }
+        JsonNode after = getStatistics();
+        assertEquals(5, after.get("unassigned").asLong() - before.get("unassigned").asLong());
+        assertFalse(after.get("byUser").has(createdUser.id().toString()));
+    }
+
+    @Test
+    public void deleteUser_WithArchivedTasks_UnassignsArchivedTasksInChunks() throws Exception {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            archivedTasks.add(taskService.createTask(new BugTaskCreateRequest("Archived deletion bug " + i, null,
+                    TaskStatus.DONE, null, BugSeverity.LOW, createdUser.id())));
+        }
+        taskArchiveService.archiveTasks(LocalDateTime.now().plusSeconds(1));
+
+        // Act
+        String location = mockMvc.perform(delete("/api/users/{id}", createdUser.id()))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader("Location");
+        JsonNode job = awaitFinished(location);
+
+        // Assert, archived tasks left to the foreign key of the archive would not be counted by the job
+        assertEquals("COMPLETED", job.get("status").asText());
+        assertEquals(8, job.get("unassignedTasks").asLong());
+        for (Task task : archivedTasks) {
+            mockMvc.perform(get("/api/tasks/{id}", task.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.user", nullValue()))
+                    .andExpect(header().string("ETag", "\"1\""));
+        }
+    }
+
+    @Test
+    public void deleteUser_AfterFailedJob_RestartsJob() throws Exception {
+        // Arrange, the user cannot be removed while a row references it, so the job fails at its end
+        String location;
+        jdbcTemplate.execute("CREATE TABLE deletion_blockers (user_id BIGINT REFERENCES users(id))");
+        try {
+            jdbcTemplate.update("INSERT INTO deletion_blockers (user_id) VALUES (?)", createdUser.id());
+            location = mockMvc.perform(delete("/api/users/{id}", createdUser.id()))
+                    .andExpect(status().isAccepted())
+                    .andReturn().getResponse().getHeader("Location");
+            JsonNode failed = awaitFinished(location);
+            assertEquals("FAILED", failed.get("status").asText());
+            assertTrue(failed.get("error").isTextual());
+            mockMvc.perform(get("/api/users/{id}", createdUser.id()))
+                    .andExpect(status().isNotFound());
+        } finally {
+            jdbcTemplate.execute("DROP TABLE deletion_blockers");
+        }
+
+        // Act
+        String restarted = mockMvc.perform(delete("/api/users/{id}", createdUser.id()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status", is("PENDING")))
+                .andReturn().getResponse().getHeader("Location");
+        JsonNode job = awaitFinished(restarted);
+
+        // Assert
+        assertEquals(location, restarted);
+        assertEquals("COMPLETED", job.get("status").asText());
+        assertEquals(5, job.get("unassignedTasks").asLong());
+        assertFalse(job.get("error").isTextual());
+        mockMvc.perform(delete("/api/users/{id}", createdUser.id()))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode awaitFinished(String location) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            String response = mockMvc.perform(get(location).contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.userId", is(createdUser.id().intValue())))
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode job = objectMapper.readTree(response);
+            if (job.get("finishedAt").isTextual()) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        return fail("Deletion job did not finish in time");
+    }
+
+    private JsonNode getStatistics() throws Exception {
+        String response = mockMvc.perform(get("/api/tasks/stats")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+}
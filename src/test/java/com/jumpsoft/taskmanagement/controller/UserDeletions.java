@@ -0,0 +1,38 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import com.jumpsoft.taskmanagement.dto.user.UserDeletionJob;
+import com.jumpsoft.taskmanagement.enums.UserDeletionStatus;
+import com.jumpsoft.taskmanagement.service.UserDeletionService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Deletes users the way the DELETE endpoint does, by starting the background job, and waits for the job.
+ */
+class UserDeletions {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private UserDeletions() {
+    }
+
+    /**
+     * Starts the deletion of the user and waits until its job has completed.
+     *
+     * @return The completed job.
+     */
+    static UserDeletionJob deleteUser(UserDeletionService userDeletionService, Long userId) throws InterruptedException {
+        Long jobId = userDeletionService.startDeletion(userId).id();
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            UserDeletionJob job = userDeletionService.findJobById(jobId).orElseThrow();
+            if (!job.status().isUnfinished()) {
+                assertEquals(UserDeletionStatus.COMPLETED, job.status(), job.error());
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        return fail("Deletion job " + jobId + " did not finish in time");
+    }
+}
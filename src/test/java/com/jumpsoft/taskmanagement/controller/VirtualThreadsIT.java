@@ -0,0 +1,95 @@
+package com.jumpsoft.taskmanagement.controller;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests of the virtual thread mode, requests and exports have to run on virtual threads.
+ */
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+@ActiveProfiles("test")
+public class VirtualThreadsIT {
+
+    private static final String VIRTUAL_HEADER = "X-Virtual-Thread";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    public void getAllTasks_InVirtualThreadMode_IsHandledOnVirtualThread() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/tasks", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("true", response.getHeaders().getFirst(VIRTUAL_HEADER));
+    }
+
+    @Test
+    public void exportAllTasks_InVirtualThreadMode_StreamsTasks() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+
+        ResponseEntity<String> response = restTemplate.exchange("/api/tasks", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+    @Test
+    public void applicationTaskExecutor_InVirtualThreadMode_RunsBoundedVirtualThreads() throws Exception {
+        SimpleAsyncTaskExecutor executor = assertInstanceOf(SimpleAsyncTaskExecutor.class, applicationTaskExecutor);
+        Future<Boolean> virtual = executor.submit(() -> Thread.currentThread().isVirtual());
+
+        assertTrue(virtual.get());
+        assertEquals(8, executor.getConcurrencyLimit());
+    }
+
+    @TestConfiguration
+    static class ThreadReportingConfiguration {
+
+        @Bean
+        OncePerRequestFilter virtualThreadReportingFilter() {
+            return new OncePerRequestFilter() {
+                @Override
+                protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                                FilterChain filterChain) throws ServletException, IOException {
+                    response.setHeader(VIRTUAL_HEADER, String.valueOf(Thread.currentThread().isVirtual()));
+                    filterChain.doFilter(request, response);
+                }
+            };
+        }
+    }
+}
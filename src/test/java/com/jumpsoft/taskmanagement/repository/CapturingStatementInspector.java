@@ -0,0 +1,50 @@
+package com.jumpsoft.taskmanagement.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Statement inspector of the test profile which records the SQL Hibernate prepares on the current thread
+ * between {@link #start()} and {@link #stop()}, and can run an action right before a statement.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    private static final ThreadLocal<Map.Entry<String, Runnable>> BEFORE_STATEMENT = new ThreadLocal<>();
+
+    public static void start() {
+        CAPTURED.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> captured = CAPTURED.get();
+        CAPTURED.remove();
+        return captured == null ? List.of() : captured;
+    }
+
+    /**
+     * Runs the action once, right before the next statement of the current thread containing the fragment
+     * is prepared. Other transactions committed by the action on another thread are visible to that statement.
+     */
+    public static void beforeStatement(String fragment, Runnable action) {
+        BEFORE_STATEMENT.set(Map.entry(fragment, action));
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Map.Entry<String, Runnable> beforeStatement = BEFORE_STATEMENT.get();
+        if (beforeStatement != null && sql.contains(beforeStatement.getKey())) {
+            BEFORE_STATEMENT.remove();
+            beforeStatement.getValue().run();
+        }
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,135 @@
+package com.jumpsoft.taskmanagement.repository;
+
+import com.jumpsoft.taskmanagement.dto.TaskFilter;
+import com.jumpsoft.taskmanagement.dto.user.User;
+import com.jumpsoft.taskmanagement.dto.user.UserCreateRequest;
+import com.jumpsoft.taskmanagement.enums.BugSeverity;
+import com.jumpsoft.taskmanagement.enums.TaskCategory;
+import com.jumpsoft.taskmanagement.enums.TaskSort;
+import com.jumpsoft.taskmanagement.enums.TaskStatus;
+import com.jumpsoft.taskmanagement.service.TaskService;
+import com.jumpsoft.taskmanagement.service.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests checking that every supported combination of the task search filter is answered through an index.
+ * The SQL generated for the search is explained by H2, the line of the tasks table has to name one of the task indexes.
+ */
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class TaskSearchQueryPlanIT {
+
+    /**
+     * Access path of the tasks table in the H2 plan, e.g. {@code "public"."tasks" "t1_0" /* public.idx_tasks_status: ...}.
+     */
+    private static final Pattern TASKS_ACCESS = Pattern.compile("\"tasks\" \"\\w+\"\\s*/\\* public\\.(\\w+)");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private User createdUser;
+
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        createdUser = userService.createUser(new UserCreateRequest("planuser", "Plan User"));
+    }
+
+    static Stream<Arguments> filters() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = LocalDate.now();
+        return Stream.of(
+                Arguments.of(TaskFilter.builder().status(TaskStatus.OPEN).build(), TaskSort.ID),
+                Arguments.of(TaskFilter.builder().userId(1L).build(), TaskSort.ID),
+                Arguments.of(TaskFilter.builder().userId(1L).status(TaskStatus.OPEN).build(), TaskSort.ID),
+                Arguments.of(TaskFilter.builder().userId(1L).status(TaskStatus.OPEN).build(), TaskSort.CREATED_AT_DESC),
+                Arguments.of(TaskFilter.builder().unassigned(true).build(), TaskSort.ID),
+                Arguments.of(TaskFilter.builder().unassigned(true).status(TaskStatus.OPEN).build(), TaskSort.ID),
+                Arguments.of(TaskFilter.builder().category(TaskCategory.BUG).build(), TaskSort.ID),
+                Arguments.of(TaskFilter.builder().category(TaskCategory.FEATURE).status(TaskStatus.IN_PROGRESS).build(), TaskSort.ID),
+                Arguments.of(TaskFilter.builder().severity(BugSeverity.CRITICAL).build(), TaskSort.ID),
+                Arguments.of(TaskFilter.builder().severity(BugSeverity.CRITICAL).status(TaskStatus.OPEN).build(), TaskSort.ID_DESC),
+                Arguments.of(TaskFilter.builder().deadlineFrom(today).deadlineTo(today.plusDays(7)).build(), TaskSort.ID),
+                Arguments.of(TaskFilter.builder().deadlineTo(today).status(TaskStatus.OPEN).build(), TaskSort.ID),
+                Arguments.of(TaskFilter.builder().createdFrom(now.minusDays(1)).createdTo(now).build(), TaskSort.CREATED_AT),
+                Arguments.of(TaskFilter.builder().status(TaskStatus.OPEN).createdFrom(now.minusDays(1)).build(), TaskSort.CREATED_AT),
+                Arguments.of(TaskFilter.builder().status(TaskStatus.OPEN).build(), TaskSort.CREATED_AT_DESC));
+    }
+
+    @ParameterizedTest
+    @MethodSource("filters")
+    public void searchTasks_UsesIndex(TaskFilter filter, TaskSort sort) throws Exception {
+        // Arrange
+        if (filter.getUserId() != null) {
+            filter.setUserId(createdUser.id());
+        }
+
+        // Act
+        CapturingStatementInspector.start();
+        try {
+            taskService.searchTasks(filter, sort, null, 10);
+        } finally {
+            List<String> statements = CapturingStatementInspector.stop();
+            String sql = statements.stream().filter(statement -> statement.contains("from tasks")).findFirst().orElseThrow();
+
+            // Assert
+            String plan = explain(sql);
+            Matcher tasksAccess = TASKS_ACCESS.matcher(plan);
+            assertTrue(tasksAccess.find(), () -> "Tasks table not found in the plan:\n" + plan);
+            assertTrue(tasksAccess.group(1).startsWith("idx_tasks_"), () -> "Tasks are not read through an index:\n" + plan);
+        }
+    }
+
+    private String explain(String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            ParameterMetaData parameters = statement.getParameterMetaData();
+            for (int index = 1; index <= parameters.getParameterCount(); index++) {
+                switch (parameters.getParameterType(index)) {
+                    case Types.DATE -> statement.setDate(index, Date.valueOf(LocalDate.now()));
+                    case Types.TIMESTAMP -> statement.setTimestamp(index, Timestamp.valueOf(LocalDateTime.now()));
+                    case Types.BIGINT, Types.INTEGER -> statement.setLong(index, 1);
+                    default -> statement.setString(index, "OPEN");
+                }
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
@@ -26,7 +26,7 @@ import static org.junit.Assert.*;
 
 /**
  * Unit tests for UserService.
- * Tests all methods: findUserById, findAllUsers, createUser, updateUser, deleteUser.
+ * Tests all methods: findUserById, findAllUsers, createUser, updateUser.
  */
 
 @SpringBootTest
@@ -88,7 +88,7 @@ public class UserServiceTest {
     }
 
     @Test
-    public void findAllUsers_ReturnsListOfUserDTOs() {
+    public void findAllUsers_ReturnsListOfUserDTOs() throws CustomException {
         // Arrange
         com.jumpsoft.taskmanagement.entity.User secondUser = new com.jumpsoft.taskmanagement.entity.User();
         secondUser.setUsername("seconduser");
@@ -96,7 +96,7 @@ public class UserServiceTest {
         entityManager.persistAndFlush(secondUser);
 
         // Act
-        List<User> users = userService.findAllUsers();
+        List<User> users = userService.findAllUsers(null, null).items();
 
         // Assert
         assertNotNull(users);
@@ -190,31 +190,4 @@ public class UserServiceTest {
                 MessageFormat.format(exception.getErrorCode().getMessage(), exception.getData()));
     }
 
-    @Test
-    public void deleteUser_WhenUserExists_DeletesUser() {
-        // Act
-        userService.deleteUser(persistedUser.getId());
-
-        // Assert
-        assertFalse(userRepository.existsById(persistedUser.getId()));
-    }
-
-    @Test
-    public void deleteUser_WhenUserDoesNotExist_ThrowsException() {
-        // Arrange
-        Long nonExistentId = 999L;
-        String expectedErrorMessage = MessageFormat.format(ErrorCode.USER_WITH_ID_NOT_FOUND.getMessage(), nonExistentId);
-
-        // Act & Assert
-        CustomException exception = assertThrows(CustomException.class, () -> {
-            userService.deleteUser(nonExistentId);
-        });
-
-        // Additional assertions
-        assertEquals(ErrorCode.USER_WITH_ID_NOT_FOUND, exception.getErrorCode());
-        assertEquals(expectedErrorMessage,
-                MessageFormat.format(exception.getErrorCode().getMessage(), exception.getData()));
-
-    }
-
 }
\ No newline at end of file